@@ -0,0 +1,43 @@
+// LLM 대기 구간이 긴 일일 요약 API 동시 처리량 비교 (k6)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<액세스 토큰> -e VUS=2000 loadtest/llm-bound.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 2000);
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '60s', target: VUS },
+        { duration: '10s', target: 0 },
+      ],
+      gracefulRampDown: '30s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const now = Date.now();
+const body = JSON.stringify({
+  date: new Date(now).toISOString().slice(0, 10),
+  visitedPages: Array.from({ length: 20 }, (_, i) => ({
+    title: `Spring Boot 문서 ${i}`,
+    url: `https://docs.spring.io/page/${i}`,
+    visitCount: 1,
+    startTimestamp: now - (20 - i) * 600_000,
+    durationSeconds: 300,
+  })),
+});
+
+export default function () {
+  const res = http.post(`${BASE_URL}/api/daily`, body, {
+    headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${__ENV.TOKEN}` },
+    timeout: '120s',
+  });
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
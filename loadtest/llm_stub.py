@@ -0,0 +1,57 @@
+"""
+OpenAI Chat Completions 대역 서버 (부하 테스트용)
+- 모든 요청을 LLM_STUB_DELAY_MS 만큼 지연시킨 뒤 응답 (기본 3000ms)
+- 카테고리 분류 프롬프트는 방문 기록 수만큼 배열로, 일일 요약 프롬프트는 키워드/요약 객체로 응답
+
+실행: python3 loadtest/llm_stub.py  (포트 LLM_STUB_PORT, 기본 8090)
+"""
+import json
+import os
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+DELAY_SECONDS = int(os.environ.get("LLM_STUB_DELAY_MS", "3000")) / 1000
+PORT = int(os.environ.get("LLM_STUB_PORT", "8090"))
+
+SUMMARY = {
+    "topKeywords": [{"keyword": "Spring", "frequency": 3}],
+    "summaryText": ["부하 테스트 요약 1", "부하 테스트 요약 2", "부하 테스트 요약 3"],
+}
+
+
+def completion_for(prompt):
+    if "topKeywords" in prompt:
+        return json.dumps(SUMMARY, ensure_ascii=False)
+    try:
+        pages = json.loads(prompt[prompt.index("방문 기록:") + len("방문 기록:"):].strip())
+    except ValueError:
+        pages = []
+    return json.dumps([{"title": p.get("title", ""), "url": p.get("url", ""), "category": "공부, 학습"}
+                       for p in pages], ensure_ascii=False)
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        body = json.loads(self.rfile.read(int(self.headers.get("Content-Length", 0))) or b"{}")
+        prompt = body.get("messages", [{}])[-1].get("content", "")
+        time.sleep(DELAY_SECONDS)
+
+        payload = json.dumps({"choices": [{"message": {"role": "assistant", "content": completion_for(prompt)}}]},
+                             ensure_ascii=False).encode("utf-8")
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json; charset=utf-8")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, format, *args):
+        pass
+
+
+if __name__ == "__main__":
+    ThreadingHTTPServer.daemon_threads = True
+    ThreadingHTTPServer.request_queue_size = 4096
+    print(f"LLM stub listening on :{PORT} (delay {DELAY_SECONDS}s)")
+    ThreadingHTTPServer(("0.0.0.0", PORT), Handler).serve_forever()
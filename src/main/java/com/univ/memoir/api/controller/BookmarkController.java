@@ -1,14 +1,17 @@
 package com.univ.memoir.api.controller;
 
-import java.util.Set;
+import java.util.List;
 
 import com.univ.memoir.api.dto.req.bookmark.BookmarkUpdateRequestDto;
 import com.univ.memoir.api.exception.codes.SuccessCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.univ.memoir.api.dto.req.bookmark.BookmarkRequestDto;
+import com.univ.memoir.api.dto.res.bookmark.BookmarkPageResponse;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
 import com.univ.memoir.core.service.BookmarkService;
 
@@ -26,12 +29,34 @@ public class BookmarkController {
 
     @GetMapping
     @Operation(summary = "즐겨찾기 조회", description = "사용자의 즐겨찾기 목록을 조회합니다.")
-    public ResponseEntity<SuccessResponse<Set<String>>> getBookmarks(
+    public ResponseEntity<SuccessResponse<List<String>>> getBookmarks(
             @AuthenticationPrincipal String email) {
-        Set<String> bookmarks = bookmarkService.getBookmarks(email);
+        List<String> bookmarks = bookmarkService.getBookmarks(email);
         return SuccessResponse.of(SuccessCode.BOOKMARK_RETRIEVE_SUCCESS, bookmarks);
     }
 
+    @GetMapping(params = "limit")
+    @Operation(summary = "즐겨찾기 페이지 조회", description = "cursor 이후의 즐겨찾기를 limit 개수만큼 조회합니다. (최대 100개)")
+    public ResponseEntity<SuccessResponse<BookmarkPageResponse>> getBookmarkPage(
+            @AuthenticationPrincipal String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit) {
+        BookmarkPageResponse page = bookmarkService.getBookmarkPage(email, cursor, limit);
+        return SuccessResponse.of(SuccessCode.BOOKMARK_RETRIEVE_SUCCESS, page);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "즐겨찾기 내보내기", description = "전체 즐겨찾기를 NDJSON 스트림으로 내보냅니다.")
+    public ResponseEntity<StreamingResponseBody> exportBookmarks(
+            @AuthenticationPrincipal String email) {
+        // 스트리밍 시작 전에 사용자 확인 (없으면 404)
+        Long userId = bookmarkService.findUserId(email);
+        StreamingResponseBody body = out -> bookmarkService.exportBookmarks(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping
     @Operation(summary = "즐겨찾기 추가", description = "즐겨찾기를 추가합니다.")
     public ResponseEntity<SuccessResponse<Void>> addBookmark(
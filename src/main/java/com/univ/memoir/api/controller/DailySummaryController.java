@@ -1,6 +1,7 @@
 package com.univ.memoir.api.controller;
 
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
@@ -11,14 +12,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
 import com.univ.memoir.api.dto.res.DailyPopupResponse;
+import com.univ.memoir.api.dto.res.DailySummaryRawResponse;
+import com.univ.memoir.api.dto.res.SimilarDaysResponse;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.core.service.AsyncAnalysisService;
 import com.univ.memoir.core.service.DailySummaryService;
 import com.univ.memoir.core.service.MonthlySummaryService;
+import com.univ.memoir.core.service.SimilarDayService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,6 +39,8 @@ public class DailySummaryController {
 
 	private final DailySummaryService dailySummaryService;
 	private final MonthlySummaryService monthlySummaryService;
+	private final SimilarDayService similarDayService;
+	private final AsyncAnalysisService asyncAnalysisService;
 
 	@PostMapping(value = "/daily", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "일일 요약", description = "일일 요약 페이지를 생성합니다.")
@@ -45,6 +53,16 @@ public class DailySummaryController {
 		return SuccessResponse.of(SuccessCode.TIME_ANALYSIS_SUCCESS, result);
 	}
 
+	@PostMapping(value = "/daily/async", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "일일 요약 (비동기)", description = "/daily와 같지만 요약을 LLM 전용 실행기에서 생성하고 요청 스레드는 바로 반납합니다. 제한 시간을 넘기면 503을 반환합니다.")
+	public CompletableFuture<ResponseEntity<SuccessResponse<DailySummaryService.DailySummaryResult>>> getDailySummaryAsync(
+			@AuthenticationPrincipal String email,
+			@RequestBody @Valid TimeAnalysisRequest request) {
+
+		return asyncAnalysisService.summarizeDay(email, request)
+				.thenApply(result -> SuccessResponse.of(SuccessCode.TIME_ANALYSIS_SUCCESS, result));
+	}
+
 	@GetMapping("/daily/popup/{date}")
 	@Operation(summary = "일별 요약 팝업", description = "일별 요약 팝업을 조회합니다.")
 	public ResponseEntity<SuccessResponse<DailyPopupResponse.Data>> getDailyPopup(
@@ -57,11 +75,22 @@ public class DailySummaryController {
 
 	@GetMapping("/daily/{date}")
 	@Operation(summary = "일별 요약 페이지", description = "일별 요약 페이지를 조회합니다.")
-	public ResponseEntity<SuccessResponse<DailySummaryService.DailySummaryResult>> getDaily(
+	public ResponseEntity<SuccessResponse<DailySummaryRawResponse.Data>> getDaily(
 			@AuthenticationPrincipal String email,
 			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date
 	) {
-		DailySummaryService.DailySummaryResult data = dailySummaryService.getDaily(email, date);
+		DailySummaryRawResponse.Data data = dailySummaryService.getDaily(email, date);
 		return SuccessResponse.of(SuccessCode.DAILY_POPUP_OK, data);
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/daily/{date}/similar")
+	@Operation(summary = "비슷한 날 조회", description = "해당 날짜와 키워드가 비슷한 날을 유사도 순으로 조회합니다. (limit 최대 20)")
+	public ResponseEntity<SuccessResponse<SimilarDaysResponse.Data>> getSimilarDays(
+			@AuthenticationPrincipal String email,
+			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+			@RequestParam(defaultValue = "5") int limit
+	) {
+		SimilarDaysResponse.Data data = similarDayService.findSimilarDays(email, date, limit);
+		return SuccessResponse.of(SuccessCode.SIMILAR_DAYS_OK, data);
+	}
+}
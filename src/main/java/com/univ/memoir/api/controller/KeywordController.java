@@ -1,21 +1,29 @@
 package com.univ.memoir.api.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.univ.memoir.api.dto.req.page.VisitedPagesRequest;
 import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
 import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordTopResponse;
+import com.univ.memoir.api.dto.res.keyword.TrendingKeywordResponse;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.core.service.AsyncAnalysisService;
 import com.univ.memoir.core.service.KeywordService;
+import com.univ.memoir.core.service.TrendingKeywordService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +36,8 @@ import lombok.RequiredArgsConstructor;
 public class KeywordController {
 
     private final KeywordService keywordService;
+    private final TrendingKeywordService trendingKeywordService;
+    private final AsyncAnalysisService asyncAnalysisService;
 
     @PostMapping("/analyze")
     @Operation(summary = "오늘의 키워드 분석", description = "오늘의 키워드를 분석합니다.")
@@ -39,6 +49,16 @@ public class KeywordController {
         return SuccessResponse.of(SuccessCode.KEYWORD_EXTRACTION_SUCCESS, result);
     }
 
+    @PostMapping("/analyze/async")
+    @Operation(summary = "오늘의 키워드 분석 (비동기)", description = "/analyze와 같지만 분석을 LLM 전용 실행기에서 수행하고 요청 스레드는 바로 반납합니다. 제한 시간을 넘기면 503을 반환합니다.")
+    public CompletableFuture<ResponseEntity<SuccessResponse<KeywordResponseDto>>> analyzeKeywordsAsync(
+            @RequestHeader("Authorization") String accessToken,
+            @RequestBody VisitedPagesRequest request
+    ) {
+        return asyncAnalysisService.analyzeKeywords(accessToken, request)
+                .thenApply(result -> SuccessResponse.of(SuccessCode.KEYWORD_EXTRACTION_SUCCESS, result));
+    }
+
     @GetMapping("/today/top9")
     @Operation(summary = "오늘의 키워드 상위 9개 조회", description = "현재 사용자의 오늘 날짜에 해당하는 상위 9개 키워드를 빈도수 순으로 조회합니다.")
     public ResponseEntity<SuccessResponse<List<KeywordFrequencyDto>>> getTop9KeywordsForToday(
@@ -49,4 +69,40 @@ public class KeywordController {
 
         return SuccessResponse.of(SuccessCode.TOP_KEYWORDS_RETRIEVED_SUCCESS, topKeywords);
     }
+
+    @GetMapping("/top")
+    @Operation(summary = "기간별 상위 키워드 조회", description = "date(기본값: 오늘)가 속한 일(day)/주(week, 월요일 시작)/월(month) 구간의 상위 k개 키워드를 조회합니다. (k 최대 50)")
+    public ResponseEntity<SuccessResponse<KeywordTopResponse>> getTopKeywords(
+            @RequestHeader("Authorization") String accessToken,
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "9") int k
+    ) {
+        KeywordTopResponse result = keywordService.getTopKeywords(accessToken, window, date, k);
+
+        return SuccessResponse.of(SuccessCode.KEYWORD_TOP_RETRIEVE_SUCCESS, result);
+    }
+
+    @GetMapping("/top/range")
+    @Operation(summary = "임의 기간 상위 키워드 조회", description = "from ~ to(포함) 기간의 상위 k개 키워드를 조회합니다. (최대 92일, k 최대 50)")
+    public ResponseEntity<SuccessResponse<KeywordTopResponse>> getTopKeywordsInRange(
+            @RequestHeader("Authorization") String accessToken,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "9") int k
+    ) {
+        KeywordTopResponse result = keywordService.getTopKeywordsInRange(accessToken, from, to, k);
+
+        return SuccessResponse.of(SuccessCode.KEYWORD_TOP_RETRIEVE_SUCCESS, result);
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "트렌드 키워드 조회", description = "전체 사용자의 최근 24시간 상위 k개 키워드를 조회합니다. 빈도는 추정값입니다. (k 최대 50)")
+    public ResponseEntity<SuccessResponse<TrendingKeywordResponse>> getTrendingKeywords(
+            @RequestParam(defaultValue = "10") int k
+    ) {
+        TrendingKeywordResponse result = trendingKeywordService.getTrending(k);
+
+        return SuccessResponse.of(SuccessCode.KEYWORD_TRENDING_RETRIEVE_SUCCESS, result);
+    }
 }
@@ -0,0 +1,38 @@
+package com.univ.memoir.api.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.univ.memoir.api.dto.res.search.SearchResponse;
+import com.univ.memoir.api.exception.codes.SuccessCode;
+import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.core.service.SearchIndexService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@Tag(name = "기록 검색", description = "요약/키워드/방문 기록 검색 API")
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping("/search")
+    @Operation(summary = "기록 검색", description = "요약 문장, 키워드, 방문한 페이지 제목에서 검색어와 관련된 날짜를 관련도 순으로 조회합니다. (limit 최대 100)")
+    public ResponseEntity<SuccessResponse<SearchResponse>> search(
+            @AuthenticationPrincipal String email,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        SearchResponse result = searchIndexService.search(email, query, limit);
+
+        return SuccessResponse.of(SuccessCode.SEARCH_OK, result);
+    }
+}
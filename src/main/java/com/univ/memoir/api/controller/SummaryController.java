@@ -1,5 +1,6 @@
 package com.univ.memoir.api.controller;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 
 import org.springframework.format.annotation.DateTimeFormat;
@@ -8,9 +9,13 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import com.univ.memoir.api.dto.res.MonthlySummaryResponse;
+import com.univ.memoir.api.dto.res.PeriodDigestRawResponse;
+import com.univ.memoir.api.dto.res.YearSummaryResponse;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.core.service.DailyUsageCellService;
 import com.univ.memoir.core.service.MonthlySummaryService;
+import com.univ.memoir.core.service.PeriodDigestService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +28,8 @@ import lombok.RequiredArgsConstructor;
 public class SummaryController {
 
 	private final MonthlySummaryService monthlySummaryService;
+	private final PeriodDigestService periodDigestService;
+	private final DailyUsageCellService dailyUsageCellService;
 
 	@GetMapping("/monthly/{date}")
 	@Operation(summary = "월별 요약 페이지", description = "월별 요약 페이지를 조회합니다.")
@@ -33,4 +40,34 @@ public class SummaryController {
 		MonthlySummaryResponse.Data data = monthlySummaryService.getMonthlySummary(email, yearMonth);
 		return SuccessResponse.of(SuccessCode.MONTHLY_SUMMARY_OK, data);
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/digest/week/{date}")
+	@Operation(summary = "주간 요약", description = "날짜가 속한 주(월요일 시작)의 요약을 일별 요약으로부터 생성/조회합니다.")
+	public ResponseEntity<SuccessResponse<PeriodDigestRawResponse.Data>> getWeekDigest(
+			@AuthenticationPrincipal String email,
+			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date
+	) {
+		PeriodDigestRawResponse.Data data = periodDigestService.getWeekDigest(email, date);
+		return SuccessResponse.of(SuccessCode.PERIOD_DIGEST_OK, data);
+	}
+
+	@GetMapping("/digest/month/{date}")
+	@Operation(summary = "월간 요약", description = "해당 월의 요약을 주간 요약으로부터 생성/조회합니다.")
+	public ResponseEntity<SuccessResponse<PeriodDigestRawResponse.Data>> getMonthDigest(
+			@AuthenticationPrincipal String email,
+			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth
+	) {
+		PeriodDigestRawResponse.Data data = periodDigestService.getMonthDigest(email, yearMonth);
+		return SuccessResponse.of(SuccessCode.PERIOD_DIGEST_OK, data);
+	}
+
+	@GetMapping("/summary/year/{year}")
+	@Operation(summary = "연간 요약", description = "연간 캘린더용 일별 총 사용 시간, 주요 카테고리, 일일 요약 여부를 날짜 순 병렬 배열로 조회합니다.")
+	public ResponseEntity<SuccessResponse<YearSummaryResponse.Data>> getYearSummary(
+			@AuthenticationPrincipal String email,
+			@PathVariable("year") int year
+	) {
+		YearSummaryResponse.Data data = dailyUsageCellService.getYear(email, year);
+		return SuccessResponse.of(SuccessCode.YEAR_SUMMARY_OK, data);
+	}
+}
@@ -1,19 +1,32 @@
 package com.univ.memoir.api.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
 import com.univ.memoir.api.dto.res.time.ActivityStats;
+import com.univ.memoir.api.dto.res.time.TimeRangeStats;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.core.service.AsyncAnalysisService;
 import com.univ.memoir.core.service.TimeService;
+import com.univ.memoir.core.service.TimeUsageRollupService;
+import com.univ.memoir.core.service.VisitUploadReader;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -22,15 +35,59 @@ import lombok.RequiredArgsConstructor;
 public class TimeController {
 
     private final TimeService timeService;
+    private final TimeUsageRollupService timeUsageRollupService;
+    private final VisitUploadReader visitUploadReader;
+    private final AsyncAnalysisService asyncAnalysisService;
 
     @PostMapping("/time")
-    @Operation(summary = "웹 활동 통계 분석", description = "웹 활동 시간을 분석하여 통계를 반환합니다.")
+    @Operation(summary = "웹 활동 통계 분석",
+            description = "웹 활동 시간을 분석하여 통계를 반환합니다. 기본은 저장된 집계에 새 방문만 더하는 증분 모드이며, incremental=false면 전체를 다시 집계합니다.")
     public ResponseEntity<SuccessResponse<ActivityStats>> analyzeTimeStats(
             @AuthenticationPrincipal String email,
-            @RequestBody TimeAnalysisRequest request
+            @RequestBody TimeAnalysisRequest request,
+            @RequestParam(defaultValue = "true") boolean incremental
     ) {
-        ActivityStats result = timeService.analyzeTimeStats(email, request);
+        ActivityStats result = timeService.analyzeTimeStats(email, request, incremental);
 
         return SuccessResponse.of(SuccessCode.TIME_ANALYSIS_SUCCESS, result);
     }
+
+    @PostMapping("/time/async")
+    @Operation(summary = "웹 활동 통계 분석 (비동기)",
+            description = "/time과 같지만 분석을 LLM 전용 실행기에서 수행하고 요청 스레드는 바로 반납합니다. 제한 시간을 넘기면 503을 반환합니다.")
+    public CompletableFuture<ResponseEntity<SuccessResponse<ActivityStats>>> analyzeTimeStatsAsync(
+            @AuthenticationPrincipal String email,
+            @RequestBody TimeAnalysisRequest request,
+            @RequestParam(defaultValue = "true") boolean incremental
+    ) {
+        return asyncAnalysisService.analyzeTimeStats(email, request, incremental)
+                .thenApply(result -> SuccessResponse.of(SuccessCode.TIME_ANALYSIS_SUCCESS, result));
+    }
+
+    @PostMapping(value = "/time/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "웹 활동 통계 분석 (스트리밍 업로드)",
+            description = "대용량 방문 기록을 스트리밍으로 읽어 분석합니다. 본문은 방문 기록 배열 또는 { \"visitedPages\": [...] } 형식입니다.")
+    public ResponseEntity<SuccessResponse<ActivityStats>> analyzeTimeStatsStream(
+            @AuthenticationPrincipal String email,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "true") boolean incremental,
+            HttpServletRequest request
+    ) throws IOException {
+        visitUploadReader.checkContentLength(request.getContentLengthLong());
+        ActivityStats result = timeService.analyzeTimeStatsStream(email, date, request.getInputStream(), incremental);
+
+        return SuccessResponse.of(SuccessCode.TIME_ANALYSIS_SUCCESS, result);
+    }
+
+    @GetMapping("/time/range")
+    @Operation(summary = "기간별 웹 활동 통계 조회", description = "from ~ to(포함) 기간의 일별 합계, 카테고리별 합계, 요일 × 시간대 히트맵을 반환합니다. (최대 366일)")
+    public ResponseEntity<SuccessResponse<TimeRangeStats>> getTimeRangeStats(
+            @AuthenticationPrincipal String email,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        TimeRangeStats result = timeUsageRollupService.getRangeStats(email, from, to);
+
+        return SuccessResponse.of(SuccessCode.TIME_RANGE_RETRIEVE_SUCCESS, result);
+    }
 }
\ No newline at end of file
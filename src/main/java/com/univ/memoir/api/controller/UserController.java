@@ -3,12 +3,14 @@ package com.univ.memoir.api.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.univ.memoir.api.dto.req.user.UserInterestRequest;
+import com.univ.memoir.api.dto.req.user.UserTimeZoneRequest;
 import com.univ.memoir.api.dto.res.UserProfileDto;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
@@ -45,4 +47,14 @@ public class UserController {
         User updatedUser = userService.updateUserInterests(email, request.getInterests());
         return SuccessResponse.of(SuccessCode.UPDATED, new UserProfileDto(updatedUser));
     }
+
+    @PatchMapping("/timezone")
+    @Operation(summary = "시간대 설정", description = "사용 시간 집계와 날짜 경계 계산에 사용할 시간대(IANA ID)를 설정합니다.")
+    public ResponseEntity<?> updateTimeZoneByToken(
+            @AuthenticationPrincipal String email,
+            @RequestBody UserTimeZoneRequest request
+    ) {
+        User updatedUser = userService.updateTimeZone(email, request.getTimeZone());
+        return SuccessResponse.of(SuccessCode.UPDATED, new UserProfileDto(updatedUser));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.univ.memoir.api.dto.req.user;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+@Getter
+public class UserTimeZoneRequest {
+
+    // IANA 시간대 ID (예: Asia/Seoul, America/New_York)
+    @NotBlank
+    private String timeZone;
+}
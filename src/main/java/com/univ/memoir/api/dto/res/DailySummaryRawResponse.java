@@ -0,0 +1,46 @@
+package com.univ.memoir.api.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * 일별 요약 조회 응답
+ * - DB에 저장된 JSON 조각을 역직렬화하지 않고 응답 본문에 그대로 기록
+ * - 필드 구조는 DailySummaryService.DailySummaryResult와 동일
+ */
+public class DailySummaryRawResponse {
+
+	private static final String EMPTY_ARRAY = "[]";
+
+	public record Data(
+		String date,
+		@JsonRawValue String topKeywords,
+		@JsonRawValue String dailyTimeline,
+		@JsonRawValue String summaryText,
+		ActivityStats activityStats
+	) {}
+
+	public record ActivityStats(
+		int totalUsageTimeMinutes,
+		@JsonRawValue String activityProportions
+	) {}
+
+	public static Data of(String date, String topKeywordsJson, String timelineJson, String summaryTextJson,
+						  int totalUsageMinutes, String activityProportionsJson) {
+		return new Data(
+			date,
+			orEmpty(topKeywordsJson),
+			orEmpty(timelineJson),
+			orEmpty(summaryTextJson),
+			new ActivityStats(totalUsageMinutes, orEmpty(activityProportionsJson))
+		);
+	}
+
+	public static Data empty(String date) {
+		return new Data(date, EMPTY_ARRAY, EMPTY_ARRAY, EMPTY_ARRAY, new ActivityStats(0, EMPTY_ARRAY));
+	}
+
+	// 저장된 값이 비어 있으면 잘못된 JSON이 기록되지 않도록 빈 배열로 대체
+	private static String orEmpty(String json) {
+		return (json == null || json.isBlank()) ? EMPTY_ARRAY : json;
+	}
+}
@@ -0,0 +1,48 @@
+package com.univ.memoir.api.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * 주간/월간 요약 조회 응답
+ * - 저장된 JSON 조각을 역직렬화하지 않고 그대로 기록 (DailySummaryRawResponse와 같은 방식)
+ */
+public class PeriodDigestRawResponse {
+
+	private static final String EMPTY_ARRAY = "[]";
+
+	public record Data(
+		String period,
+		String from,
+		String to,
+		int dayCount,
+		@JsonRawValue String topKeywords,
+		@JsonRawValue String summaryText,
+		ActivityStats activityStats
+	) {}
+
+	public record ActivityStats(
+		int totalUsageTimeMinutes,
+		@JsonRawValue String activityProportions
+	) {}
+
+	public static Data of(String period, String from, String to, int dayCount, String topKeywordsJson,
+						  String summaryTextJson, int totalUsageMinutes, String activityProportionsJson) {
+		return new Data(
+			period,
+			from,
+			to,
+			dayCount,
+			orEmpty(topKeywordsJson),
+			orEmpty(summaryTextJson),
+			new ActivityStats(totalUsageMinutes, orEmpty(activityProportionsJson))
+		);
+	}
+
+	public static Data empty(String period, String from, String to) {
+		return new Data(period, from, to, 0, EMPTY_ARRAY, EMPTY_ARRAY, new ActivityStats(0, EMPTY_ARRAY));
+	}
+
+	private static String orEmpty(String json) {
+		return (json == null || json.isBlank()) ? EMPTY_ARRAY : json;
+	}
+}
@@ -0,0 +1,19 @@
+package com.univ.memoir.api.dto.res;
+
+import java.util.List;
+
+public class SimilarDaysResponse {
+	public record Data(
+		String date,
+		List<SimilarDay> similarDays
+	) {}
+
+	/**
+	 * @param similarity 키워드 집합 추정 자카드 유사도 (0 ~ 1)
+	 */
+	public record SimilarDay(
+		String date,
+		double similarity,
+		String topKeyword
+	) {}
+}
@@ -13,11 +13,13 @@ public class UserProfileDto {
     private String email;
     private String name;
     private String profileUrl;
+    private String timeZone;
 
     public UserProfileDto(User user){
         this.id = user.getId();
         this.email = user.getEmail();
         this.name = user.getName();
         this.profileUrl = user.getProfileUrl();
+        this.timeZone = user.zoneId().getId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.univ.memoir.api.dto.res;
+
+import java.util.Map;
+
+/**
+ * 연간 캘린더 응답 (1월 1일부터 날짜 순 병렬 배열)
+ * - totalMinutes[i]: i번째 날의 총 사용 분
+ * - dominantCategories.charAt(i): 주요 카테고리 코드 ('-'는 기록 없음), 코드 → 라벨은 categoryLabels
+ * - summaryFlags.charAt(i): 일일 요약 존재 여부 ('1' / '0')
+ */
+public class YearSummaryResponse {
+	public record Data(
+		int year,
+		String startDate,
+		int days,
+		int[] totalMinutes,
+		String dominantCategories,
+		String summaryFlags,
+		Map<String, String> categoryLabels
+	) {}
+}
@@ -0,0 +1,13 @@
+package com.univ.memoir.api.dto.res.bookmark;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 keyset 페이지 응답
+ * - nextCursor를 다음 요청의 cursor로 전달 (마지막 페이지면 null)
+ */
+public record BookmarkPageResponse(
+        List<String> bookmarks,
+        String nextCursor,
+        boolean hasNext
+) {}
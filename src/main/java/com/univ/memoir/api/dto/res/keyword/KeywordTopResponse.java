@@ -0,0 +1,21 @@
+package com.univ.memoir.api.dto.res.keyword;
+
+import java.util.List;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기간별 상위 키워드
+ * - window: day | week | month | custom
+ */
+@Getter
+@AllArgsConstructor
+public class KeywordTopResponse {
+    private String window;
+    private String from;
+    private String to;
+    private List<KeywordFrequencyDto> keywords;
+}
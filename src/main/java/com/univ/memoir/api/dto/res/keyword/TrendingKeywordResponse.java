@@ -0,0 +1,19 @@
+package com.univ.memoir.api.dto.res.keyword;
+
+import java.util.List;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전체 사용자 트렌드 키워드
+ * - frequency는 최근 windowHours시간 Count-Min 추정값 (실제 빈도 이상)
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingKeywordResponse {
+    private int windowHours;
+    private List<KeywordFrequencyDto> keywords;
+}
@@ -0,0 +1,25 @@
+package com.univ.memoir.api.dto.res.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기록 검색 결과 (관련도 순 날짜 목록)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchResponse {
+    private String query;
+    private List<Hit> hits;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private String date;
+        private double score;
+        // 요약 첫 문장 (요약이 없으면 그날 처음 색인된 페이지 제목)
+        private String snippet;
+    }
+}
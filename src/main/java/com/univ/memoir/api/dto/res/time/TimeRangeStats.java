@@ -0,0 +1,28 @@
+package com.univ.memoir.api.dto.res.time;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 기간별 사용 시간 통계
+ * - weekdayHourHeatmap: [요일(0=월 ~ 6=일)][시간대(0~23)] 사용 분
+ */
+@Data
+@AllArgsConstructor
+public class TimeRangeStats {
+    private String from;
+    private String to;
+    private int totalUsageTimeMinutes;
+    private List<DailyUsage> dailyUsages;
+    private List<CategorySummary> categorySummaries;
+    private int[][] weekdayHourHeatmap;
+
+    @Data
+    @AllArgsConstructor
+    public static class DailyUsage {
+        private String date;
+        private int totalUsageTimeMinutes;
+    }
+}
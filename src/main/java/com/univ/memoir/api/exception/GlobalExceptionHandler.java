@@ -2,8 +2,11 @@ package com.univ.memoir.api.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,6 +62,45 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ErrorCode.INVALID_INPUT));
     }
 
+    /**
+     * 동시 수정 충돌 (409)
+     * - @Version 낙관적 잠금 실패 (같은 날짜 시간 분석을 동시에 갱신한 경우 등)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("OptimisticLockingFailure: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(ErrorCode.CONCURRENT_UPDATE.getStatus())
+                .body(ErrorResponse.of(ErrorCode.CONCURRENT_UPDATE));
+    }
+
+    /**
+     * 비동기 요청 제한 시간 초과 (503)
+     * - spring.mvc.async.request-timeout 안에 CompletableFuture가 완료되지 않은 경우
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex) {
+        log.warn("AsyncRequestTimeout");
+
+        return ResponseEntity
+                .status(ErrorCode.ASYNC_REQUEST_TIMEOUT.getStatus())
+                .body(ErrorResponse.of(ErrorCode.ASYNC_REQUEST_TIMEOUT));
+    }
+
+    /**
+     * LLM 실행기 포화 (503)
+     * - 스레드 풀과 대기 큐가 모두 찬 경우
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException ex) {
+        log.warn("TaskRejected: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(ErrorCode.LLM_EXECUTOR_BUSY.getStatus())
+                .body(ErrorResponse.of(ErrorCode.LLM_EXECUTOR_BUSY));
+    }
+
     /**
      * 예상치 못한 서버 에러 (500)
      * - 모든 미처리 예외
@@ -42,6 +42,13 @@ public enum ErrorCode {
      * 409 Conflict
      */
     DUPLICATE_GOOGLE_ID(409, HttpStatus.CONFLICT, "이미 회원가입 된 구글 계정입니다."),
+    CONCURRENT_UPDATE(409, HttpStatus.CONFLICT, "같은 데이터가 동시에 수정되었습니다. 다시 시도해주세요."),
+
+    /**
+     * 413 Payload Too Large
+     */
+    UPLOAD_TOO_MANY_ENTRIES(413, HttpStatus.PAYLOAD_TOO_LARGE, "업로드 가능한 방문 기록 개수를 초과했습니다."),
+    UPLOAD_TOO_LARGE(413, HttpStatus.PAYLOAD_TOO_LARGE, "업로드 가능한 요청 크기를 초과했습니다."),
 
     /**
      *  500 INTERNAL SERVER ERROR
@@ -51,6 +58,12 @@ public enum ErrorCode {
     DATABASE_CONNECTION_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 연결에 실패했습니다. 잠시 후 다시 시도해주세요."),
     UNEXPECTED_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 서버 오류가 발생했습니다. 관리자에게 문의하세요."),
 
+    /**
+     *  503 Service Unavailable
+     */
+    ASYNC_REQUEST_TIMEOUT(503, HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    LLM_EXECUTOR_BUSY(503, HttpStatus.SERVICE_UNAVAILABLE, "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     /**
      *  200 OK (알림 및 상태 관련)
      */
@@ -17,6 +17,9 @@ public enum SuccessCode {
     BOOKMARK_RETRIEVE_SUCCESS(HttpStatus.OK,"북마크 조회에 성공했습니다."),
     USER_PROFILE_RETRIEVE_SUCCESS(HttpStatus.OK, "사용자 프로필 조회에 성공했습니다."),
     TOP_KEYWORDS_RETRIEVED_SUCCESS(HttpStatus.OK,"오늘의 키워드 조회에 성공했습니다."),
+    TIME_RANGE_RETRIEVE_SUCCESS(HttpStatus.OK, "기간별 사용 시간 조회에 성공했습니다."),
+    KEYWORD_TOP_RETRIEVE_SUCCESS(HttpStatus.OK, "기간별 상위 키워드 조회에 성공했습니다."),
+    KEYWORD_TRENDING_RETRIEVE_SUCCESS(HttpStatus.OK, "트렌드 키워드 조회에 성공했습니다."),
 
     /**
      * 201 CREATED SUCCESS
@@ -44,6 +47,10 @@ public enum SuccessCode {
     NOTIFICATION_SENT(HttpStatus.OK, "알림이 성공적으로 전송되었습니다."),
     MONTHLY_SUMMARY_OK(HttpStatus.OK, "월별 활동 요약 조회 성공"),
     DAILY_POPUP_OK(HttpStatus.OK, "일별 활동 요약 조회 성공"),
+    PERIOD_DIGEST_OK(HttpStatus.OK, "기간 활동 요약 조회 성공"),
+    SEARCH_OK(HttpStatus.OK, "기록 검색 성공"),
+    SIMILAR_DAYS_OK(HttpStatus.OK, "비슷한 날 조회 성공"),
+    YEAR_SUMMARY_OK(HttpStatus.OK, "연간 요약 조회 성공"),
 
     /**
      * 204 NO CONTENT (Deletion Responses)
@@ -0,0 +1,13 @@
+package com.univ.memoir.api.exception.custom;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class LlmDeadlineExceededException extends GlobalException {
+    public LlmDeadlineExceededException() {
+        super(ErrorCode.ASYNC_REQUEST_TIMEOUT);
+    }
+}
@@ -0,0 +1,13 @@
+package com.univ.memoir.api.exception.custom;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class UploadLimitExceededException extends GlobalException {
+    public UploadLimitExceededException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,83 @@
+package com.univ.memoir.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 실행기 설정
+ * - applicationTaskExecutor: Spring MVC 비동기 응답(StreamingResponseBody 등)과 실행기를 지정하지 않은 @Async
+ *   (Executor 빈이 하나라도 있으면 Boot가 기본 실행기를 만들지 않으므로 Boot 빌더로 직접 등록)
+ * - llmExecutor: OpenAI 호출이 포함된 분석 작업 전용, @Async(LLM_EXECUTOR)로 지정한 경우만 사용
+ * - 가상 스레드 모드면 작업마다 가상 스레드 + 동시 실행 상한, 아니면 고정 크기 풀 + 대기 큐
+ *   (어느 쪽이든 가득 차면 제출 즉시 TaskRejectedException → 503)
+ * - 두 경우 모두 MDC(traceId)를 작업 스레드로 전달
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String LLM_EXECUTOR = "llmExecutor";
+
+    /**
+     * Boot 기본 실행기와 같은 구성 (spring.task.execution.* 설정, 가상 스레드 모드면 가상 스레드 실행기)
+     * - taskExecutor 이름도 함께 등록해 실행기를 지정하지 않은 @Async가 llmExecutor로 가지 않도록 함
+     */
+    @Primary
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+            SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder
+    ) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder.taskDecorator(new MdcTaskDecorator()).build();
+        }
+        return threadPoolTaskExecutorBuilder.taskDecorator(new MdcTaskDecorator()).build();
+    }
+
+    @Bean(name = LLM_EXECUTOR)
+    public Executor llmExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${memoir.llm.executor.core-size:16}") int coreSize,
+            @Value("${memoir.llm.executor.max-size:64}") int maxSize,
+            @Value("${memoir.llm.executor.queue-capacity:1000}") int queueCapacity,
+            @Value("${memoir.llm.executor.virtual-concurrency-limit:2000}") int virtualConcurrencyLimit
+    ) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("llm-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new MdcTaskDecorator());
+            log.info("LLM executor - virtual threads, concurrencyLimit: {}", virtualConcurrencyLimit);
+            // setConcurrencyLimit은 상한에서 호출 스레드를 막으므로 세마포어로 즉시 거절
+            return new BoundedTaskExecutor(executor, virtualConcurrencyLimit);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("llm-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        log.info("LLM executor - platform threads, core: {}, max: {}, queue: {}", coreSize, maxSize, queueCapacity);
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package com.univ.memoir.config;
+
+import java.util.concurrent.Semaphore;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * 동시 실행 수 상한이 있는 실행기 래퍼
+ * - 상한에 도달하면 호출 스레드를 기다리게 하지 않고 즉시 TaskRejectedException (→ 503)
+ * - SimpleAsyncTaskExecutor.setConcurrencyLimit은 상한에서 제출 스레드를 막으므로 가상 스레드 모드에서 대신 사용
+ */
+public class BoundedTaskExecutor implements TaskExecutor {
+
+    private final TaskExecutor delegate;
+    private final Semaphore permits;
+    private final int limit;
+
+    public BoundedTaskExecutor(TaskExecutor delegate, int limit) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(limit);
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("Executor concurrency limit reached: " + limit);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+}
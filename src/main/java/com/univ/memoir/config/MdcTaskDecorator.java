@@ -0,0 +1,35 @@
+package com.univ.memoir.config;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업 제출 시점의 MDC(traceId, requestId)를 실행 스레드로 복사
+ * - 실행 후에는 스레드의 이전 MDC로 되돌림 (풀 스레드 재사용 시 값이 섞이지 않도록)
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> submitted = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (submitted == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(submitted);
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
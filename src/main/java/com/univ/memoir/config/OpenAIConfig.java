@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -14,9 +15,19 @@ public class OpenAIConfig {
     @Value("${openai.api.key}")
     private String apiKey;
 
+    @Value("${openai.api.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    // 요청 하나가 GPT를 두 번 호출해도 요청 전체 마감(memoir.llm.deadline-ms) 안에 끝나도록 짧게 둠
+    @Value("${openai.api.read-timeout-ms:25000}")
+    private int readTimeoutMs;
+
     @Bean
     public RestTemplate openAiRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
 
         ClientHttpRequestInterceptor authInterceptor = (request, body, execution) -> {
             request.getHeaders().add("Authorization", "Bearer " + apiKey);
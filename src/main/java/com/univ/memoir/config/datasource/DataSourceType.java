@@ -0,0 +1,6 @@
+package com.univ.memoir.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,24 @@
+package com.univ.memoir.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 전용 레플리카 DB 설정 (spring.datasource.replica.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    // 이 값보다 복제 지연이 크면 읽기 트랜잭션도 primary로 보냄
+    private long maxLagSeconds = 5;
+}
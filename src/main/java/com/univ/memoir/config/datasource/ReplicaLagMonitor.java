@@ -0,0 +1,77 @@
+package com.univ.memoir.config.datasource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레플리카 복제 지연 감시
+ * - 주기적으로 SHOW REPLICA STATUS를 조회해 지연(초)을 기록
+ * - 지연이 임계값을 넘거나 조회에 실패하면 replica 사용 중지 → primary로 fallback
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNAVAILABLE = -1L;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private final AtomicLong lagSeconds = new AtomicLong(UNAVAILABLE);
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("memoir.datasource.replica.lag", lagSeconds, AtomicLong::get)
+                .description("레플리카 복제 지연 (초, -1이면 사용 불가)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        long lag = lagSeconds.get();
+        return lag != UNAVAILABLE && lag <= maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        long previous = lagSeconds.get();
+        long current = fetchLagSeconds();
+        lagSeconds.set(current);
+
+        boolean wasAvailable = previous != UNAVAILABLE && previous <= maxLagSeconds;
+        if (wasAvailable != isReplicaAvailable()) {
+            log.warn("Replica availability changed - available: {}, lagSeconds: {}", isReplicaAvailable(), current);
+        }
+    }
+
+    private long fetchLagSeconds() {
+        try {
+            List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+
+            // 복제 상태가 없으면 (예: Aurora reader) 지연 없음으로 간주
+            if (rows.isEmpty()) {
+                return 0L;
+            }
+
+            Object seconds = rows.get(0).get("Seconds_Behind_Source");
+            if (seconds == null) {
+                // 복제 스레드가 멈춘 상태
+                return UNAVAILABLE;
+            }
+            return ((Number) seconds).longValue();
+        } catch (Exception e) {
+            log.warn("Replica lag check failed: {}", e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.univ.memoir.config.datasource;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 트랜잭션 속성에 따라 커넥션을 라우팅하는 DataSource
+ * - @Transactional(readOnly = true) → replica (복제 지연이 허용 범위일 때만)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 없음) → primary
+ *
+ * readOnly 플래그는 트랜잭션 시작 이후에 설정되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<DataSourceType, Counter> routeCounters = new EnumMap<>(DataSourceType.class);
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        for (DataSourceType type : DataSourceType.values()) {
+            routeCounters.put(type, Counter.builder("memoir.datasource.route")
+                    .description("라우팅된 커넥션 요청 수")
+                    .tag("target", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceType target = DataSourceType.PRIMARY;
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaAvailable()) {
+            target = DataSourceType.REPLICA;
+        }
+
+        routeCounters.get(target).increment();
+        return target;
+    }
+}
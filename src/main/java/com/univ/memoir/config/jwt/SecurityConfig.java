@@ -20,6 +20,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.univ.memoir.core.filter.CachingRequestFilter;
 import com.univ.memoir.core.service.CustomOAuth2UserService;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -43,6 +44,8 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> {
                     auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();  // CORS preflight 허용
+                    // 비동기 API 결과 전송(async dispatch)은 최초 요청에서 이미 인가됨 (JWT 필터는 재실행되지 않음)
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     auth.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll();
                     auth.requestMatchers("/oauth2/**", "/login/**", "/newtab/**").permitAll();
 
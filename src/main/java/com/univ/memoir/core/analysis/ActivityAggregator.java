@@ -0,0 +1,197 @@
+package com.univ.memoir.core.analysis;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.univ.memoir.api.dto.res.time.ActivityStats;
+import com.univ.memoir.api.dto.res.time.CategorySummary;
+import com.univ.memoir.api.dto.res.time.HourlyBreakdown;
+import com.univ.memoir.core.domain.ActivityCategory;
+
+/**
+ * 시간대(24) × 카테고리 사용 시간 집계기
+ * - ActivityCategory ordinal을 인덱스로 int[24][N] 배열에 초 단위로 누적
+ * - 시간대 경계 분할은 HourSplitter에 위임 (epoch 초 + 캐시한 오프셋 산술)
+ * - 응답 DTO(CategorySummary, HourlyBreakdown)는 마지막에 한 번만 생성
+ *
+ * 요청 단위로 생성해서 사용 (thread-safe 아님)
+ */
+public class ActivityAggregator {
+
+    private static final int CATEGORY_COUNT = ActivityCategory.count();
+    private static final int STUDY = ActivityCategory.STUDY.ordinal();
+    private static final int NEWS = ActivityCategory.NEWS.ordinal();
+    private static final int CONTENT = ActivityCategory.CONTENT.ordinal();
+
+    private static final int HOURS = 24;
+    private static final int MATRIX_BYTES = HOURS * CATEGORY_COUNT * Integer.BYTES;
+
+    private final HourSplitter hourSplitter;
+    private final int[][] hourlySeconds = new int[HOURS][CATEGORY_COUNT];
+    private final long[] categorySeconds = new long[CATEGORY_COUNT];
+    private final boolean[] categorySeen = new boolean[CATEGORY_COUNT];
+    private long totalSeconds;
+
+    public ActivityAggregator(ZoneId zoneId) {
+        this.hourSplitter = new HourSplitter(zoneId);
+    }
+
+    /**
+     * 저장해 둔 시간대 × 카테고리 행렬에서 집계기 복원 (증분 집계용)
+     *
+     * @throws IllegalArgumentException 카테고리 개수가 바뀌는 등 형식이 맞지 않는 경우
+     */
+    public static ActivityAggregator fromBytes(ZoneId zoneId, byte[] matrix) {
+        if (matrix == null || matrix.length != MATRIX_BYTES) {
+            throw new IllegalArgumentException("Invalid hourly category matrix length: "
+                    + (matrix == null ? "null" : matrix.length));
+        }
+
+        ActivityAggregator aggregator = new ActivityAggregator(zoneId);
+        ByteBuffer buffer = ByteBuffer.wrap(matrix);
+        for (int hour = 0; hour < HOURS; hour++) {
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                int seconds = buffer.getInt();
+                if (seconds > 0) {
+                    aggregator.hourlySeconds[hour][c] = seconds;
+                    aggregator.categorySeconds[c] += seconds;
+                    aggregator.categorySeen[c] = true;
+                    aggregator.totalSeconds += seconds;
+                }
+            }
+        }
+        return aggregator;
+    }
+
+    /**
+     * 시간대 × 카테고리 초 행렬을 고정 길이 바이트 배열로 직렬화 (hour 우선, big-endian int)
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(MATRIX_BYTES);
+        for (int hour = 0; hour < HOURS; hour++) {
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                buffer.putInt(hourlySeconds[hour][c]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 방문 한 건을 누적하며 시간대 경계를 넘으면 나눠서 배분
+     */
+    public void add(long startTimestampMillis, int durationSeconds, ActivityCategory activityCategory) {
+        int category = activityCategory.ordinal();
+        categorySeen[category] = true;
+        if (durationSeconds <= 0) {
+            return;
+        }
+
+        totalSeconds += durationSeconds;
+        categorySeconds[category] += durationSeconds;
+
+        hourSplitter.split(startTimestampMillis, durationSeconds,
+                (hour, seconds) -> hourlySeconds[hour][category] += seconds);
+    }
+
+    public long getTotalSeconds() {
+        return totalSeconds;
+    }
+
+    public int getTotalMinutes() {
+        return (int) (totalSeconds / 60);
+    }
+
+    /**
+     * 등장한 카테고리별 누적 초 (카테고리 선언 순서)
+     */
+    public Map<ActivityCategory, Long> getCategorySeconds() {
+        Map<ActivityCategory, Long> result = new EnumMap<>(ActivityCategory.class);
+        for (int c = 0; c < CATEGORY_COUNT; c++) {
+            if (categorySeen[c]) {
+                result.put(ActivityCategory.fromOrdinal(c), categorySeconds[c]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 누적 시간이 가장 긴 카테고리 (사용 시간이 없으면 null)
+     */
+    public ActivityCategory getDominantCategory() {
+        int dominant = -1;
+        for (int c = 0; c < CATEGORY_COUNT; c++) {
+            if (categorySeconds[c] > 0 && (dominant < 0 || categorySeconds[c] > categorySeconds[dominant])) {
+                dominant = c;
+            }
+        }
+        return dominant < 0 ? null : ActivityCategory.fromOrdinal(dominant);
+    }
+
+    public int getHourlySeconds(int hour, ActivityCategory category) {
+        return hourlySeconds[hour][category.ordinal()];
+    }
+
+    /**
+     * 최종 통계 생성
+     *
+     * @param capContentConsumption 콘텐츠 소비가 80%를 넘으면 70%로 낮추고 나머지를 공부/뉴스로 재분배
+     */
+    public ActivityStats toActivityStats(boolean capContentConsumption) {
+        return new ActivityStats(getTotalMinutes(), toCategorySummaries(capContentConsumption), toHourlyBreakdowns());
+    }
+
+    public List<CategorySummary> toCategorySummaries(boolean capContentConsumption) {
+        long[] seconds = categorySeconds.clone();
+        boolean[] seen = categorySeen.clone();
+
+        // 콘텐츠 소비 비율 재분배 로직 (초 단위로 조정, 저장된 누적값은 변경하지 않음)
+        if (capContentConsumption && seconds[CONTENT] > totalSeconds * 0.8) {
+            long redistribute = seconds[CONTENT] - (long) (totalSeconds * 0.7);
+            seconds[CONTENT] -= redistribute;
+            seconds[STUDY] += redistribute / 2;
+            seconds[NEWS] += redistribute / 2;
+            seen[STUDY] = true;
+            seen[NEWS] = true;
+        }
+
+        List<CategorySummary> summaries = new ArrayList<>(CATEGORY_COUNT);
+        for (int c = 0; c < CATEGORY_COUNT; c++) {
+            if (seen[c]) {
+                summaries.add(new CategorySummary(ActivityCategory.fromOrdinal(c).getLabel(), (int) (seconds[c] / 60)));
+            }
+        }
+        summaries.sort(Comparator.comparingInt(CategorySummary::getTotalTimeMinutes).reversed());
+        return summaries;
+    }
+
+    public List<HourlyBreakdown> toHourlyBreakdowns() {
+        List<HourlyBreakdown> breakdowns = new ArrayList<>();
+        for (int hour = 0; hour < HOURS; hour++) {
+            Map<String, Integer> categoryMinutes = null;
+            int hourTotalMinutes = 0;
+
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                int seconds = hourlySeconds[hour][c];
+                if (seconds > 0) {
+                    if (categoryMinutes == null) {
+                        categoryMinutes = new LinkedHashMap<>();
+                    }
+                    int minutes = seconds / 60;
+                    categoryMinutes.put(ActivityCategory.fromOrdinal(c).getLabel(), minutes);
+                    hourTotalMinutes += minutes;
+                }
+            }
+
+            if (categoryMinutes != null) {
+                breakdowns.add(new HourlyBreakdown(hour, hourTotalMinutes, categoryMinutes));
+            }
+        }
+        return breakdowns;
+    }
+}
@@ -0,0 +1,81 @@
+package com.univ.memoir.core.analysis;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * 방문 구간을 현지 시각 정각 경계에서 나눠 시간대(0~23)별 초로 넘겨줌
+ * - 시간대 계산은 epoch 초 + 오프셋 산술로 처리 (ZonedDateTime 생성 없음)
+ * - 다음 정각과 다음 오프셋 전환(서머타임) 중 먼저 오는 지점에서 자름
+ * - 오프셋은 현재 구간(다음 전환 전까지)을 캐시해서 재사용
+ *
+ * 요청 단위로 생성해서 사용 (thread-safe 아님)
+ */
+public class HourSplitter {
+
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private final ZoneRules zoneRules;
+
+    // [offsetValidFrom, offsetValidUntil) 구간에서 유효한 오프셋 캐시
+    private int cachedOffsetSeconds;
+    private long offsetValidFrom = Long.MAX_VALUE;
+    private long offsetValidUntil = Long.MIN_VALUE;
+
+    public HourSplitter(ZoneId zoneId) {
+        this.zoneRules = zoneId.getRules();
+    }
+
+    @FunctionalInterface
+    public interface HourConsumer {
+        void accept(int hour, int seconds);
+    }
+
+    public void split(long startTimestampMillis, int durationSeconds, HourConsumer consumer) {
+        long epochSecond = Math.floorDiv(startTimestampMillis, 1000L);
+        int remaining = durationSeconds;
+
+        while (remaining > 0) {
+            int offset = offsetAt(epochSecond);
+            int secondOfDay = (int) Math.floorMod(epochSecond + offset, (long) SECONDS_PER_DAY);
+            int hour = secondOfDay / SECONDS_PER_HOUR;
+
+            // 다음 정각 또는 다음 오프셋 전환 중 먼저 오는 지점까지
+            long secondsUntilBoundary = SECONDS_PER_HOUR - (secondOfDay % SECONDS_PER_HOUR);
+            if (offsetValidUntil != Long.MAX_VALUE) {
+                secondsUntilBoundary = Math.min(secondsUntilBoundary, offsetValidUntil - epochSecond);
+            }
+            int segment = (int) Math.min(remaining, secondsUntilBoundary);
+
+            consumer.accept(hour, segment);
+            remaining -= segment;
+            epochSecond += segment;
+        }
+    }
+
+    private int offsetAt(long epochSecond) {
+        if (epochSecond < offsetValidFrom || epochSecond >= offsetValidUntil) {
+            refreshOffset(epochSecond);
+        }
+        return cachedOffsetSeconds;
+    }
+
+    private void refreshOffset(long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        cachedOffsetSeconds = zoneRules.getOffset(instant).getTotalSeconds();
+
+        if (zoneRules.isFixedOffset()) {
+            offsetValidFrom = Long.MIN_VALUE;
+            offsetValidUntil = Long.MAX_VALUE;
+            return;
+        }
+
+        ZoneOffsetTransition previous = zoneRules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = zoneRules.nextTransition(instant);
+        offsetValidFrom = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        offsetValidUntil = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+    }
+}
@@ -0,0 +1,201 @@
+package com.univ.memoir.core.analysis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.api.dto.req.page.VisitedPageDto;
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+import com.univ.memoir.core.util.UrlUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방문 기록 세션화 (분류/집계/프롬프트 이전 단계)
+ * - 새로고침, SPA 라우트 변경처럼 연속된 같은 페이지 방문을 하나의 세션으로 병합
+ * - 같은 페이지 = 정규화 URL이 같거나, 같은 호스트에서 제목이 같은 경우
+ * - 직전 세션 종료 후 gap 이내에 시작한 방문만 병합
+ * - 세션의 머문 시간과 방문 수는 병합된 방문의 합계
+ * - 세션은 병합된 원본 방문도 함께 보관하므로, 시간대 집계는 원본 방문 구간으로 해야 함
+ *   (세션 대표 방문은 첫 방문 시각에 전체 머문 시간을 더한 값이라 시간대 버킷이 어긋남)
+ */
+@Slf4j
+@Component
+public class Sessionizer {
+
+    private final long gapMillis;
+
+    public Sessionizer(@Value("${memoir.session.gap-seconds:300}") long gapSeconds) {
+        this.gapMillis = gapSeconds * 1000L;
+    }
+
+    /**
+     * 시작 시각이 있는 방문 기록 세션화 (시작 시각 순으로 정렬해서 반환)
+     */
+    public List<Session> sessionize(List<VisitedPageForTimeDto> pages) {
+        List<VisitedPageForTimeDto> sorted = pages.stream()
+                .filter(Objects::nonNull)
+                .filter(page -> page.getUrl() != null)
+                .sorted(Comparator.comparingLong(VisitedPageForTimeDto::getStartTimestamp))
+                .toList();
+
+        List<Session> sessions = new ArrayList<>();
+        TimedSession current = null;
+        for (VisitedPageForTimeDto page : sorted) {
+            String canonicalUrl = UrlUtils.canonical(page.getUrl());
+            String host = UrlUtils.host(page.getUrl());
+
+            if (current != null && current.accepts(page, canonicalUrl, host)) {
+                current.merge(page);
+                continue;
+            }
+            if (current != null) {
+                sessions.add(current.toSession());
+            }
+            current = new TimedSession(page, canonicalUrl, host);
+        }
+        if (current != null) {
+            sessions.add(current.toSession());
+        }
+
+        log.debug("Sessionized visits - input: {}, sessions: {}", pages.size(), sessions.size());
+        return sessions;
+    }
+
+    /**
+     * 세션 대표 방문 목록 (분류 프롬프트 입력용)
+     */
+    public static List<VisitedPageForTimeDto> pagesOf(List<Session> sessions) {
+        return sessions.stream().map(Session::getPage).toList();
+    }
+
+    /**
+     * 시작 시각이 없는 방문 기록 중복 제거 (처음 등장한 순서 유지)
+     * - 같은 정규화 URL 또는 같은 제목이면 하나로 합치고 방문 수/머문 시간 합산
+     */
+    public List<VisitedPageDto> collapse(List<VisitedPageDto> pages) {
+        List<VisitedPageDto> collapsed = new ArrayList<>();
+        Map<String, VisitedPageDto> byUrl = new HashMap<>();
+        Map<String, VisitedPageDto> byTitle = new HashMap<>();
+
+        for (VisitedPageDto page : pages) {
+            if (page == null || page.getUrl() == null) {
+                continue;
+            }
+            String canonicalUrl = UrlUtils.canonical(page.getUrl());
+            String title = normalizeTitle(page.getTitle());
+
+            VisitedPageDto merged = byUrl.get(canonicalUrl);
+            if (merged == null && title != null) {
+                merged = byTitle.get(title);
+            }
+
+            if (merged == null) {
+                merged = new VisitedPageDto();
+                merged.setTitle(page.getTitle());
+                merged.setUrl(page.getUrl());
+                collapsed.add(merged);
+            }
+            merged.setVisitCount(merged.getVisitCount() + Math.max(1, page.getVisitCount()));
+            merged.setDuration(merged.getDuration() + Math.max(0, page.getDuration()));
+
+            byUrl.putIfAbsent(canonicalUrl, merged);
+            if (title != null) {
+                byTitle.putIfAbsent(title, merged);
+            }
+        }
+
+        log.debug("Collapsed visits - input: {}, output: {}", pages.size(), collapsed.size());
+        return collapsed;
+    }
+
+    private static String normalizeTitle(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        return title.trim().replaceAll("\\s+", " ");
+    }
+
+    private class TimedSession {
+        private final String canonicalUrl;
+        private final String host;
+        private final String title;
+        private final String originalTitle;
+        private final String url;
+        private final long startTimestamp;
+        private long endTimestamp;
+        private long durationSeconds;
+        private int visitCount;
+        private final List<VisitedPageForTimeDto> visits = new ArrayList<>();
+
+        TimedSession(VisitedPageForTimeDto page, String canonicalUrl, String host) {
+            this.canonicalUrl = canonicalUrl;
+            this.host = host;
+            this.title = normalizeTitle(page.getTitle());
+            this.originalTitle = page.getTitle();
+            this.url = page.getUrl();
+            this.startTimestamp = page.getStartTimestamp();
+            this.endTimestamp = page.getStartTimestamp();
+            merge(page);
+        }
+
+        boolean accepts(VisitedPageForTimeDto page, String otherCanonicalUrl, String otherHost) {
+            if (page.getStartTimestamp() > endTimestamp + gapMillis) {
+                return false;
+            }
+            if (Objects.equals(canonicalUrl, otherCanonicalUrl)) {
+                return true;
+            }
+            return title != null
+                    && title.equals(normalizeTitle(page.getTitle()))
+                    && Objects.equals(host, otherHost);
+        }
+
+        void merge(VisitedPageForTimeDto page) {
+            int duration = Math.max(0, page.getDurationSeconds());
+            durationSeconds += duration;
+            visitCount += Math.max(1, page.getVisitCount());
+            visits.add(page);
+            endTimestamp = Math.max(endTimestamp, page.getStartTimestamp() + duration * 1000L);
+        }
+
+        Session toSession() {
+            VisitedPageForTimeDto dto = new VisitedPageForTimeDto();
+            dto.setTitle(originalTitle);
+            dto.setUrl(url);
+            dto.setVisitCount(visitCount);
+            dto.setStartTimestamp(startTimestamp);
+            dto.setDurationSeconds((int) Math.min(durationSeconds, Integer.MAX_VALUE));
+            return new Session(dto, List.copyOf(visits));
+        }
+    }
+
+    /**
+     * 병합된 세션
+     * - page: 분류/프롬프트용 대표 방문 (첫 방문 시각, 머문 시간·방문 수 합계)
+     * - visits: 병합된 원본 방문 (시작 시각 순), 시간대 집계용
+     */
+    public static final class Session {
+        private final VisitedPageForTimeDto page;
+        private final List<VisitedPageForTimeDto> visits;
+
+        private Session(VisitedPageForTimeDto page, List<VisitedPageForTimeDto> visits) {
+            this.page = page;
+            this.visits = visits;
+        }
+
+        public VisitedPageForTimeDto getPage() {
+            return page;
+        }
+
+        public List<VisitedPageForTimeDto> getVisits() {
+            return visits;
+        }
+    }
+}
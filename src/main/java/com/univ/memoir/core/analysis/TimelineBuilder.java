@@ -0,0 +1,161 @@
+package com.univ.memoir.core.analysis;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.univ.memoir.core.domain.ActivityCategory;
+
+/**
+ * 시간대 × 카테고리 집계로부터 일일 타임라인을 결정적으로 생성
+ * - 시간대별 주요 카테고리(최소 MIN_HOUR_SECONDS 이상)를 구하고, 같은 카테고리가 이어지는 시간대를 한 블록으로 합침
+ * - 사용 시간이 긴 블록 maxEntries개를 골라 시작 시각 순으로 정렬
+ * - 블록 설명에는 해당 구간·카테고리에서 가장 오래 본 제목을 대표 제목으로 사용
+ *
+ * 요청 단위로 생성해서 사용 (thread-safe 아님)
+ */
+public class TimelineBuilder {
+
+    private static final int HOURS = 24;
+    private static final int MIN_HOUR_SECONDS = 5 * 60;
+    private static final int MAX_TITLE_LENGTH = 40;
+
+    private final HourSplitter hourSplitter;
+    // [hour][category ordinal] → 제목별 누적 초
+    @SuppressWarnings("unchecked")
+    private final Map<String, Integer>[][] titleSeconds = new Map[HOURS][ActivityCategory.count()];
+
+    public TimelineBuilder(ZoneId zoneId) {
+        this.hourSplitter = new HourSplitter(zoneId);
+    }
+
+    /**
+     * 대표 제목 후보 누적 - ActivityAggregator.add와 같은 HourSplitter로 시간대 경계를 넘으면 나눠서 배분
+     */
+    public void addTitle(long startTimestampMillis, int durationSeconds, ActivityCategory category, String title) {
+        if (title == null || title.isBlank() || durationSeconds <= 0) {
+            return;
+        }
+        String stripped = title.strip();
+        int c = category.ordinal();
+        hourSplitter.split(startTimestampMillis, durationSeconds, (hour, seconds) -> {
+            Map<String, Integer> titles = titleSeconds[hour][c];
+            if (titles == null) {
+                titles = new HashMap<>();
+                titleSeconds[hour][c] = titles;
+            }
+            titles.merge(stripped, seconds, Integer::sum);
+        });
+    }
+
+    public List<Block> build(ActivityAggregator aggregator, int maxEntries) {
+        List<Block> blocks = new ArrayList<>();
+        Block current = null;
+
+        for (int hour = 0; hour < HOURS; hour++) {
+            ActivityCategory dominant = dominantAt(aggregator, hour);
+            if (dominant == null) {
+                current = null;
+                continue;
+            }
+            int seconds = aggregator.getHourlySeconds(hour, dominant);
+            if (current != null && current.category == dominant && current.endHour == hour) {
+                current.endHour = hour + 1;
+                current.seconds += seconds;
+            } else {
+                current = new Block(hour, dominant, seconds);
+                blocks.add(current);
+            }
+        }
+
+        List<Block> selected = blocks.stream()
+                .sorted(Comparator.comparingLong((Block block) -> block.seconds).reversed()
+                        .thenComparingInt(block -> block.startHour))
+                .limit(maxEntries)
+                .sorted(Comparator.comparingInt(block -> block.startHour))
+                .toList();
+        selected.forEach(block -> block.title = representativeTitle(block));
+        return selected;
+    }
+
+    private ActivityCategory dominantAt(ActivityAggregator aggregator, int hour) {
+        ActivityCategory dominant = null;
+        int dominantSeconds = MIN_HOUR_SECONDS - 1;
+        for (ActivityCategory category : ActivityCategory.values()) {
+            int seconds = aggregator.getHourlySeconds(hour, category);
+            if (seconds > dominantSeconds) {
+                dominant = category;
+                dominantSeconds = seconds;
+            }
+        }
+        return dominant;
+    }
+
+    private String representativeTitle(Block block) {
+        Map<String, Integer> merged = new HashMap<>();
+        for (int hour = block.startHour; hour < block.endHour; hour++) {
+            Map<String, Integer> titles = titleSeconds[hour][block.category.ordinal()];
+            if (titles != null) {
+                titles.forEach((title, seconds) -> merged.merge(title, seconds, Integer::sum));
+            }
+        }
+        return merged.entrySet().stream()
+                .max(Map.Entry.<String, Integer>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(entry -> truncate(entry.getKey()))
+                .orElse(null);
+    }
+
+    private static String truncate(String title) {
+        return title.length() <= MAX_TITLE_LENGTH ? title : title.substring(0, MAX_TITLE_LENGTH) + "…";
+    }
+
+    /**
+     * 같은 주요 카테고리가 이어진 시간 구간 [startHour, endHour)
+     */
+    public static class Block {
+        private final int startHour;
+        private final ActivityCategory category;
+        private int endHour;
+        private long seconds;
+        private String title;
+
+        private Block(int startHour, ActivityCategory category, long seconds) {
+            this.startHour = startHour;
+            this.endHour = startHour + 1;
+            this.category = category;
+            this.seconds = seconds;
+        }
+
+        public String time() {
+            return String.format("%02d:00", startHour);
+        }
+
+        public int getStartHour() {
+            return startHour;
+        }
+
+        public int getEndHour() {
+            return endHour;
+        }
+
+        public ActivityCategory getCategory() {
+            return category;
+        }
+
+        public int getMinutes() {
+            return (int) (seconds / 60);
+        }
+
+        /**
+         * 예: "공부, 학습 85분 (09~11시) · Spring Boot 공식 문서"
+         */
+        public String description() {
+            String base = String.format("%s %d분 (%02d~%02d시)", category.getLabel(), getMinutes(), startHour, endHour);
+            return title == null ? base : base + " · " + title;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.univ.memoir.core.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+
+/**
+ * 웹 활동 카테고리
+ * - label: 프롬프트/응답에 사용하는 한국어 이름
+ * - code: DB 저장용 1글자 코드
+ */
+public enum ActivityCategory {
+    STUDY("공부, 학습", 'S', "공부", "학습", "study", "learn", "education"),
+    NEWS("뉴스, 정보 탐색", 'N', "뉴스", "정보", "news", "info"),
+    CONTENT("콘텐츠 소비", 'C', "콘텐츠", "컨텐츠", "content", "media", "entertainment"),
+    SHOPPING("쇼핑", 'P', "쇼핑", "shop"),
+    WORK("업무, 프로젝트", 'W', "업무", "프로젝트", "work", "project");
+
+    public static final ActivityCategory DEFAULT = CONTENT;
+
+    private static final ActivityCategory[] VALUES = values();
+
+    @Getter
+    private final String label;
+    @Getter
+    private final char code;
+    private final String normalizedLabel;
+    private final String[] hints;
+
+    ActivityCategory(String label, char code, String... hints) {
+        this.label = label;
+        this.code = code;
+        this.normalizedLabel = normalize(label);
+        this.hints = hints;
+    }
+
+    /**
+     * 모델 출력 등 자유 형식 문자열을 카테고리로 변환
+     * - 정확한 라벨 → 공백/구두점 무시한 라벨 → enum 이름 → 포함된 힌트 단어 순으로 매칭
+     *
+     * @return 매칭 실패 시 empty
+     */
+    public static Optional<ActivityCategory> parse(String raw) {
+        if (raw == null) {
+            return Optional.empty();
+        }
+
+        String trimmed = raw.trim();
+        for (ActivityCategory category : VALUES) {
+            if (category.label.equals(trimmed)) {
+                return Optional.of(category);
+            }
+        }
+
+        String normalized = normalize(trimmed);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        for (ActivityCategory category : VALUES) {
+            if (category.normalizedLabel.equals(normalized) || category.name().toLowerCase(Locale.ROOT).equals(normalized)) {
+                return Optional.of(category);
+            }
+        }
+
+        for (ActivityCategory category : VALUES) {
+            for (String hint : category.hints) {
+                if (normalized.contains(hint)) {
+                    return Optional.of(category);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public static ActivityCategory fromLabelOrDefault(String raw) {
+        return parse(raw).orElse(DEFAULT);
+    }
+
+    public static ActivityCategory fromCode(char code) {
+        for (ActivityCategory category : VALUES) {
+            if (category.code == code) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Unknown activity category code: " + code);
+    }
+
+    public static ActivityCategory fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * 프롬프트에 넣을 카테고리 목록 ('공부, 학습', '뉴스, 정보 탐색', ...)
+     */
+    public static String promptLabels() {
+        return Arrays.stream(VALUES)
+                .map(category -> "'" + category.label + "'")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("[\\s\\p{Punct}·]", "");
+    }
+}
@@ -0,0 +1,21 @@
+package com.univ.memoir.core.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * ActivityCategory ↔ 1글자 저장 코드 변환
+ */
+@Converter
+public class ActivityCategoryCodeConverter implements AttributeConverter<ActivityCategory, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ActivityCategory category) {
+        return category == null ? null : String.valueOf(category.getCode());
+    }
+
+    @Override
+    public ActivityCategory convertToEntityAttribute(String code) {
+        return (code == null || code.isEmpty()) ? null : ActivityCategory.fromCode(code.charAt(0));
+    }
+}
@@ -0,0 +1,52 @@
+package com.univ.memoir.core.domain;
+
+import java.io.Serializable;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 즐겨찾기 (user_bookmarks)
+ * - (user_id, bookmark_url) 복합키, bookmark_url 기준 keyset 페이지네이션
+ * - 추가/삭제/수정은 BookmarkRepository의 단건 SQL로 처리
+ */
+@Entity
+@Table(
+		name = "user_bookmarks",
+		uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "bookmark_url"})
+)
+@IdClass(Bookmark.BookmarkId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Bookmark {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Id
+	@Column(name = "bookmark_url", length = 512, nullable = false)
+	private String url;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", insertable = false, updatable = false)
+	private User user;
+
+	public Bookmark(Long userId, String url) {
+		this.userId = userId;
+		this.url = url;
+	}
+
+	@Getter
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class BookmarkId implements Serializable {
+		private Long userId;
+		private String url;
+	}
+}
@@ -37,6 +37,10 @@ public class DailySummary {
 	@Column(columnDefinition = "TEXT")
 	private String activityProportionsJson;
 
+	// 키워드 집합 MinHash 서명 (MinHashSignature.toBytes), 비슷한 날 찾기에 사용
+	@Column(columnDefinition = "VARBINARY(256)")
+	private byte[] keywordSignature;
+
 	public DailySummary(User user, LocalDate date,
 						String topKeywordsJson,
 						String timelineJson,
@@ -51,4 +55,8 @@ public class DailySummary {
 		this.totalUsageMinutes = totalUsageMinutes;
 		this.activityProportionsJson = activityProportionsJson;
 	}
-}
\ No newline at end of file
+
+	public void updateKeywordSignature(byte[] keywordSignature) {
+		this.keywordSignature = keywordSignature;
+	}
+}
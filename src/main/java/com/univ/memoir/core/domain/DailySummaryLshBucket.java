@@ -0,0 +1,40 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일일 요약 키워드 서명 LSH 밴드 버킷 (날짜당 MinHashSignature.BANDS개)
+ * - 같은 버킷을 공유하는 날짜만 유사도 후보로 조회 (전체 날짜와 비교하지 않음)
+ * - 쓰기는 SimilarDayService가 JDBC로 날짜 단위 교체
+ */
+@Entity
+@Table(
+		name = "daily_summary_lsh",
+		indexes = {
+				@Index(name = "idx_daily_summary_lsh_user_bucket", columnList = "user_id, bucket"),
+				@Index(name = "idx_daily_summary_lsh_user_date", columnList = "user_id, summary_date")
+		}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySummaryLshBucket {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "summary_date", nullable = false)
+	private LocalDate summaryDate;
+
+	@Column(nullable = false)
+	private long bucket;
+}
@@ -0,0 +1,47 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 연간 캘린더용 일별 요약 셀 (사용자, 날짜) → 총 사용 분, 주요 카테고리, 일일 요약 여부
+ * - 시간 분석 / 일일 요약 저장 시 DailyUsageCellService가 JDBC upsert로 갱신
+ * - 연간 조회는 (user_id, usage_date) 유니크 인덱스 범위 조회 한 번
+ */
+@Entity
+@Table(
+        name = "daily_usage_cell",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_usage_cell_user_date",
+                columnNames = {"user_id", "usage_date"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyUsageCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "total_minutes", nullable = false)
+    private int totalMinutes;
+
+    @Convert(converter = ActivityCategoryCodeConverter.class)
+    @Column(name = "dominant_category", length = 1)
+    private ActivityCategory dominantCategory;
+
+    @Column(name = "has_summary", nullable = false)
+    private boolean hasSummary;
+}
@@ -0,0 +1,11 @@
+package com.univ.memoir.core.domain;
+
+/**
+ * 기간 요약 단위
+ * - WEEK: 월요일 시작 주, 일별 요약에서 생성
+ * - MONTH: 달력 월, 주간 요약에서 생성
+ */
+public enum DigestPeriod {
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,48 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 사용자 트렌드 키워드 스케치 스냅샷 (인스턴스, 1시간 버킷) 단위
+ * - 재시작 시 메모리 집계를 복구하기 위한 용도, 조회는 항상 메모리에서 처리
+ * - 쓰기/읽기는 TrendingKeywordService가 JDBC로 수행
+ */
+@Entity
+@Table(
+        name = "keyword_trend_snapshot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_keyword_trend_snapshot_bucket",
+                columnNames = {"instance_id", "bucket_hour"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KeywordTrendSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "instance_id", nullable = false, length = 64)
+    private String instanceId;
+
+    // epoch millis / 1시간
+    @Column(name = "bucket_hour", nullable = false)
+    private long bucketHour;
+
+    // CountMinSketch.toBytes
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] sketch;
+
+    // 후보 키워드 표기 (줄바꿈 구분)
+    @Column(name = "heavy_hitters", columnDefinition = "TEXT")
+    private String heavyHitters;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
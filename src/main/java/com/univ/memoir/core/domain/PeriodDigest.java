@@ -0,0 +1,82 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주간/월간 요약 캐시
+ * - fingerprint: 생성에 사용한 하위 요약(일별 또는 주간) 내용의 해시
+ * - 하위 요약이 바뀌지 않았으면 저장된 결과를 그대로 사용하고 GPT를 다시 호출하지 않음
+ */
+@Entity
+@Table(
+        name = "period_digest",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_period_digest_period",
+                columnNames = {"user_id", "period_type", "period_start"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PeriodDigest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 5)
+    private DigestPeriod periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    // 요약에 포함된 일별 요약 수
+    private int dayCount;
+
+    private int totalUsageMinutes;
+
+    @Column(columnDefinition = "TEXT")
+    private String topKeywordsJson;
+
+    @Column(columnDefinition = "TEXT")
+    private String summaryTextJson;
+
+    @Column(columnDefinition = "TEXT")
+    private String activityProportionsJson;
+
+    private LocalDateTime updatedAt;
+
+    public PeriodDigest(User user, DigestPeriod periodType, LocalDate periodStart, LocalDate periodEnd) {
+        this.user = user;
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    public void update(String fingerprint, int dayCount, int totalUsageMinutes,
+                       String topKeywordsJson, String summaryTextJson, String activityProportionsJson) {
+        this.fingerprint = fingerprint;
+        this.dayCount = dayCount;
+        this.totalUsageMinutes = totalUsageMinutes;
+        this.topKeywordsJson = topKeywordsJson;
+        this.summaryTextJson = summaryTextJson;
+        this.activityProportionsJson = activityProportionsJson;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -6,8 +6,18 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 사용자 날짜별 시간 분석 집계 (time_analysis_data)
+ * - (user_id, date) 유니크 키로 날짜당 한 행만 유지, 같은 날짜 첫 행을 동시에 저장하면 나중 요청이 충돌로 실패
+ */
 @Entity
-@Table(name = "time_analysis_data")
+@Table(
+        name = "time_analysis_data",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_time_analysis_data_user_date",
+                columnNames = {"user_id", "date"}
+        )
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TimeAnalysisData {
@@ -29,6 +39,22 @@ public class TimeAnalysisData {
     @Column(columnDefinition = "TEXT")
     private String hourlyBreakdownsJson;
 
+    // 증분 집계용 시간대 × 카테고리 누적 초 (ActivityAggregator.toBytes)
+    @Column(columnDefinition = "VARBINARY(1024)")
+    private byte[] hourlyCategorySeconds;
+
+    // 지금까지 반영한 방문의 최대 시작 시각 (epoch millis)
+    private Long lastVisitTimestamp;
+
+    // 최대 시작 시각 방문의 반영된 머문 시간 합계와 카테고리 코드 (이후 업로드에서 늘어난 시간만 이어서 반영)
+    private Integer lastVisitDurationSeconds;
+    private Character lastVisitCategory;
+
+    // 같은 날짜 행을 동시에 갱신할 때 나중 요청이 앞선 집계를 덮어쓰지 않도록 낙관적 잠금
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     public TimeAnalysisData(User user, LocalDate date, int totalUsageMinutes, 
                            String categorySummariesJson, String hourlyBreakdownsJson) {
         this.user = user;
@@ -37,4 +63,31 @@ public class TimeAnalysisData {
         this.categorySummariesJson = categorySummariesJson;
         this.hourlyBreakdownsJson = hourlyBreakdownsJson;
     }
+
+    public TimeAnalysisData(User user, LocalDate date, int totalUsageMinutes,
+                           String categorySummariesJson, String hourlyBreakdownsJson,
+                           byte[] hourlyCategorySeconds, Long lastVisitTimestamp,
+                           Integer lastVisitDurationSeconds, Character lastVisitCategory) {
+        this(user, date, totalUsageMinutes, categorySummariesJson, hourlyBreakdownsJson);
+        this.hourlyCategorySeconds = hourlyCategorySeconds;
+        this.lastVisitTimestamp = lastVisitTimestamp;
+        this.lastVisitDurationSeconds = lastVisitDurationSeconds;
+        this.lastVisitCategory = lastVisitCategory;
+    }
+
+    public boolean isIncrementable() {
+        return hourlyCategorySeconds != null && lastVisitTimestamp != null;
+    }
+
+    public void updateAggregation(int totalUsageMinutes, String categorySummariesJson, String hourlyBreakdownsJson,
+                                  byte[] hourlyCategorySeconds, Long lastVisitTimestamp,
+                                  Integer lastVisitDurationSeconds, Character lastVisitCategory) {
+        this.totalUsageMinutes = totalUsageMinutes;
+        this.categorySummariesJson = categorySummariesJson;
+        this.hourlyBreakdownsJson = hourlyBreakdownsJson;
+        this.hourlyCategorySeconds = hourlyCategorySeconds;
+        this.lastVisitTimestamp = lastVisitTimestamp;
+        this.lastVisitDurationSeconds = lastVisitDurationSeconds;
+        this.lastVisitCategory = lastVisitCategory;
+    }
 }
\ No newline at end of file
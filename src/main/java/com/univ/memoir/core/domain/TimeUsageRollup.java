@@ -0,0 +1,49 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 사용 시간 롤업 (사용자, 날짜, 카테고리, 시간대) → 초
+ * - 시간 분석 결과를 저장할 때 해당 날짜 행을 통째로 교체
+ * - 기간 조회는 (user_id, usage_date) 인덱스 범위 집계 한 번으로 처리
+ * - 쓰기는 TimeUsageRollupService가 JDBC 배치로 수행
+ */
+@Entity
+@Table(
+        name = "time_usage_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_time_usage_rollup_cell",
+                columnNames = {"user_id", "usage_date", "category", "hour_of_day"}
+        ),
+        indexes = @Index(name = "idx_time_usage_rollup_user_date", columnList = "user_id, usage_date")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimeUsageRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Convert(converter = ActivityCategoryCodeConverter.class)
+    @Column(nullable = false, length = 1)
+    private ActivityCategory category;
+
+    @Column(name = "hour_of_day", nullable = false)
+    private int hour;
+
+    @Column(nullable = false)
+    private int seconds;
+}
@@ -1,8 +1,11 @@
 package com.univ.memoir.core.domain;
 
+import java.time.ZoneId;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.univ.memoir.core.util.UserZones;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -15,7 +18,6 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,21 +53,16 @@ public class User {
     @Column(length = 1, nullable = false)
     private String status = "N"; // 'N' = 정상 / 'Y' = 탈퇴
 
+    // IANA 시간대 ID (예: Asia/Seoul), null이면 기본 시간대
+    @Column(name = "time_zone", length = 64)
+    private String timeZone;
+
     @ElementCollection(targetClass = InterestType.class, fetch = FetchType.LAZY)
     @CollectionTable(name = "user_interests", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "interest")
     private Set<InterestType> interests = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(
-            name = "user_bookmarks",
-            joinColumns = @JoinColumn(name = "user_id"),
-            uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "bookmark_url"})
-    )
-    @Column(name = "bookmark_url", length = 512, nullable = false)
-    private Set<String> bookmarkUrls = new HashSet<>();
-
     @Builder
     public User(String googleId, String email, String name, String profileUrl, String accessToken) {
         this.googleId = googleId;
@@ -88,6 +85,17 @@ public class User {
         this.accessToken = accessToken;
     }
 
+    public void updateTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    /**
+     * 시간대 버킷팅/날짜 경계 계산에 사용할 ZoneId
+     */
+    public ZoneId zoneId() {
+        return UserZones.resolve(timeZone);
+    }
+
     public void withdraw() {
         this.status = "Y";
         this.accessToken = null; // 탈퇴시 accessToken 삭제
@@ -97,20 +105,24 @@ public class User {
         return "N".equals(this.status);
     }
 
-    public void updateInterests(Set<InterestType> newInterests) {
-        this.interests.clear();
-        this.interests.addAll(newInterests);
-    }
-
-    public void addBookmarkUrl(String url) {
-        this.bookmarkUrls.add(url);
-    }
-
-    public void removeBookmarkUrl(String url) {
-        this.bookmarkUrls.remove(url);
-    }
-
-    public Set<String> getBookmarks() {
-        return bookmarkUrls;
+    /**
+     * 관심사 변경 - 삭제/추가된 항목만 반영
+     * 컬렉션을 비우지 않으므로 Hibernate는 바뀐 행만 DELETE/INSERT 하고,
+     * 변경이 없으면 컬렉션이 dirty 처리되지 않아 쓰기 자체가 발생하지 않음
+     *
+     * @return 변경 여부
+     */
+    public boolean updateInterests(Set<InterestType> newInterests) {
+        if (this.interests.equals(newInterests)) {
+            return false;
+        }
+
+        this.interests.removeIf(interest -> !newInterests.contains(interest));
+        for (InterestType interest : newInterests) {
+            if (!this.interests.contains(interest)) {
+                this.interests.add(interest);
+            }
+        }
+        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.univ.memoir.core.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방문 원본 이벤트 (append-only)
+ * - 확장 프로그램이 올려준 방문 기록을 그대로 보관하여 서버 측 재분석에 사용
+ * - (user_id, url_hash, start_timestamp) 기준으로 중복 제거
+ * - 키워드 분석 업로드는 시작 시각이 없어 날짜 0시로 기록되므로, 시각 기반 조회는 source = TIMED만 사용
+ * - 쓰기는 VisitEventIngester가 JDBC 배치로 수행
+ */
+@Entity
+@Table(
+		name = "visit_event",
+		uniqueConstraints = @UniqueConstraint(
+				name = "uk_visit_event_user_url_start",
+				columnNames = {"user_id", "url_hash", "start_timestamp"}
+		),
+		indexes = @Index(name = "idx_visit_event_user_start", columnList = "user_id, start_timestamp")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VisitEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "url_hash", nullable = false)
+	private long urlHash;
+
+	@Column(length = 255)
+	private String host;
+
+	@Column(length = 512)
+	private String title;
+
+	// epoch millis
+	@Column(name = "start_timestamp", nullable = false)
+	private long startTimestamp;
+
+	@Column(name = "duration_seconds", nullable = false)
+	private int durationSeconds;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16, columnDefinition = "VARCHAR(16) NOT NULL DEFAULT 'TIMED'")
+	private VisitSource source;
+}
@@ -0,0 +1,11 @@
+package com.univ.memoir.core.domain;
+
+/**
+ * 방문 원본 이벤트 출처
+ * - TIMED: 시간 분석/일일 요약 업로드 (실제 방문 시작 시각과 머문 시간)
+ * - DAILY_SNAPSHOT: 키워드 분석 업로드 (시작 시각이 없어 해당 날짜 0시로 기록한 하루 단위 스냅샷)
+ */
+public enum VisitSource {
+    TIMED,
+    DAILY_SNAPSHOT
+}
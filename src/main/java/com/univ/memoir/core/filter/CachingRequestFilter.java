@@ -1,22 +1,20 @@
 package com.univ.memoir.core.filter;
 
-import com.univ.memoir.core.util.SensitiveDataMasker;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
  * 요청 기반 로깅 및 추적 ID 관리 필터
+ * - 비동기 요청은 결과를 쓰는 async dispatch에서도 같은 traceId를 MDC에 다시 넣음 (요청 속성에 보관)
  */
 @Slf4j
 @Component
@@ -30,8 +28,12 @@ public class CachingRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        // traceId: 애플리케이션 내부 분산 추적용 (항상 생성)
-        String traceId = UUID.randomUUID().toString();
+        // traceId: 애플리케이션 내부 분산 추적용 (요청당 한 번 생성)
+        String traceId = (String) request.getAttribute(TRACE_ID);
+        if (traceId == null) {
+            traceId = UUID.randomUUID().toString();
+            request.setAttribute(TRACE_ID, traceId);
+        }
         MDC.put(TRACE_ID, traceId);
 
         // requestId: NGINX에서 전달받은 요청 ID (prod 환경)
@@ -51,4 +53,9 @@ public class CachingRequestFilter extends OncePerRequestFilter {
             MDC.remove(REQUEST_ID);
         }
     }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
\ No newline at end of file
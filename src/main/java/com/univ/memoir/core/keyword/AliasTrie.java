@@ -0,0 +1,115 @@
+package com.univ.memoir.core.keyword;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 별칭 → 표기 조회용 읽기 전용 트라이
+ * - 빌드 후 노드를 BFS 순서의 평평한 배열로 고정 (노드 객체/HashMap 없음)
+ * - 한 노드의 자식은 labels 배열에 연속 구간으로 정렬되어 있어 이진 탐색으로 이동
+ * - 같은 표기는 canonicals 배열에 한 번만 저장하고 노드는 인덱스만 보관
+ */
+public class AliasTrie {
+
+    private static final int NO_VALUE = -1;
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] values;
+    private final String[] canonicals;
+
+    private AliasTrie(char[] labels, int[] firstChild, int[] childCount, int[] values, String[] canonicals) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.values = values;
+        this.canonicals = canonicals;
+    }
+
+    /**
+     * @return 등록된 키면 표기, 아니면 null
+     */
+    public String get(String key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            int from = firstChild[node];
+            int to = from + childCount[node];
+            int index = Arrays.binarySearch(labels, from, to, key.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            node = index;
+        }
+        return values[node] == NO_VALUE ? null : canonicals[values[node]];
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    /**
+     * @param entries 키 → 표기 (키는 미리 정규화된 값)
+     */
+    public static AliasTrie build(Map<String, String> entries) {
+        BuildNode root = new BuildNode();
+        List<String> canonicalList = new ArrayList<>();
+        Map<String, Integer> canonicalIndex = new TreeMap<>();
+
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (entry.getKey().isEmpty()) {
+                continue;
+            }
+            BuildNode node = root;
+            for (int i = 0; i < entry.getKey().length(); i++) {
+                node = node.children.computeIfAbsent(entry.getKey().charAt(i), c -> new BuildNode());
+            }
+            node.value = canonicalIndex.computeIfAbsent(entry.getValue(), canonical -> {
+                canonicalList.add(canonical);
+                return canonicalList.size() - 1;
+            });
+        }
+
+        // BFS로 번호를 매기면 같은 부모의 자식이 연속 구간에 놓임 (TreeMap이라 라벨 순 정렬)
+        List<BuildNode> order = new ArrayList<>();
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            order.add(node);
+            queue.addAll(node.children.values());
+        }
+
+        int size = order.size();
+        char[] labels = new char[size];
+        int[] firstChild = new int[size];
+        int[] childCount = new int[size];
+        int[] values = new int[size];
+
+        int next = 1;
+        for (int i = 0; i < size; i++) {
+            BuildNode node = order.get(i);
+            values[i] = node.value;
+            firstChild[i] = next;
+            childCount[i] = node.children.size();
+            for (char label : node.children.keySet()) {
+                labels[next++] = label;
+            }
+        }
+
+        return new AliasTrie(labels, firstChild, childCount, values, canonicalList.toArray(new String[0]));
+    }
+
+    private static class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private int value = NO_VALUE;
+    }
+}
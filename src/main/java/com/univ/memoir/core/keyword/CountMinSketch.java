@@ -0,0 +1,94 @@
+package com.univ.memoir.core.keyword;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Count-Min 스케치 (depth × width int 카운터)
+ * - 추정값은 실제 빈도 이상 (충돌만큼 과대 추정), 메모리는 키 개수와 무관하게 고정
+ * - 행별 인덱스는 64비트 해시 하나에서 이중 해싱으로 유도
+ *
+ * thread-safe 아님 (호출 측에서 동기화)
+ */
+public class CountMinSketch {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int depth;
+    private final int width;
+    private final int[] counts;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth and width must be positive: " + depth + "x" + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counts = new int[depth * width];
+    }
+
+    /**
+     * 키 해시 (FNV-1a 64 + 마무리 믹싱) - 키마다 한 번만 계산해서 add/estimate에 재사용
+     */
+    public static long hash(String key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public void add(long hash, int count) {
+        if (count <= 0) {
+            return;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + Math.floorMod(h1 + row * h2, width);
+            long updated = (long) counts[index] + count;
+            counts[index] = (int) Math.min(updated, Integer.MAX_VALUE);
+        }
+    }
+
+    public int estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[row * width + Math.floorMod(h1 + row * h2, width)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * 카운터 배열 직렬화 (행 우선, big-endian int)
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(counts.length * Integer.BYTES);
+        buffer.asIntBuffer().put(counts);
+        return buffer.array();
+    }
+
+    /**
+     * 직렬화된 카운터로 덮어쓰기
+     *
+     * @throws IllegalArgumentException depth/width 설정이 바뀌어 길이가 맞지 않는 경우
+     */
+    public void load(byte[] bytes) {
+        if (bytes == null || bytes.length != counts.length * Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid count-min sketch length: "
+                    + (bytes == null ? "null" : bytes.length));
+        }
+        ByteBuffer.wrap(bytes).asIntBuffer().get(counts);
+    }
+}
@@ -0,0 +1,99 @@
+package com.univ.memoir.core.keyword;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 키워드 추출용 사전
+ * - terms.txt: 브랜드/기술 용어 (별칭 → 표기)
+ * - stopwords.txt: 제외 단어
+ * - site-suffixes.txt: 제목 끝 사이트명
+ *
+ * 조회 키는 KeywordNormalizer.key 형태, 별칭 사전은 AliasTrie로 보관
+ */
+@Slf4j
+@Component
+public class KeywordDictionary {
+
+    private static final String TERMS_PATH = "keyword/terms.txt";
+    private static final String STOP_WORDS_PATH = "keyword/stopwords.txt";
+    private static final String SITE_SUFFIXES_PATH = "keyword/site-suffixes.txt";
+
+    private final AliasTrie canonicalTerms;
+    private final Set<String> stopWords = new HashSet<>();
+    private final Set<String> siteSuffixes = new HashSet<>();
+
+    public KeywordDictionary() {
+        Map<String, String> aliases = new HashMap<>();
+        for (String line : readLines(TERMS_PATH)) {
+            int separator = line.indexOf('=');
+            String canonical = (separator < 0 ? line : line.substring(0, separator)).trim();
+            aliases.put(key(canonical), canonical);
+            if (separator >= 0) {
+                for (String alias : line.substring(separator + 1).split(",")) {
+                    if (!alias.isBlank()) {
+                        aliases.put(key(alias), canonical);
+                    }
+                }
+            }
+        }
+        canonicalTerms = AliasTrie.build(aliases);
+        for (String line : readLines(STOP_WORDS_PATH)) {
+            stopWords.add(key(line));
+        }
+        for (String line : readLines(SITE_SUFFIXES_PATH)) {
+            siteSuffixes.add(key(line));
+        }
+        log.info("Keyword dictionary loaded - aliases: {}, trieNodes: {}, stopWords: {}, siteSuffixes: {}",
+                aliases.size(), canonicalTerms.nodeCount(), stopWords.size(), siteSuffixes.size());
+    }
+
+    /**
+     * 사전 용어면 표기 반환, 아니면 null
+     */
+    public String canonical(String key) {
+        return canonicalTerms.get(key);
+    }
+
+    public boolean isStopWord(String key) {
+        return stopWords.contains(key);
+    }
+
+    public boolean isSiteSuffix(String segment) {
+        return siteSuffixes.contains(key(segment));
+    }
+
+    private static String key(String value) {
+        return KeywordNormalizer.key(value);
+    }
+
+    private static List<String> readLines(String path) {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("키워드 사전 로딩 실패: " + path, e);
+        }
+        return lines;
+    }
+}
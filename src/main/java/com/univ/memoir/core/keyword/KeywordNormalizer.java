@@ -0,0 +1,83 @@
+package com.univ.memoir.core.keyword;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키워드 정규화
+ * - 비교 키: NFKC → 소문자 → 공백/구두점/기호 제거 (C++, C# 의 +, # 는 유지)
+ * - 표기: 별칭 사전에 있으면 사전 표기, 없으면 NFKC + 공백 정리한 원래 표기
+ *
+ * "React", "react", "리액트", "React.js" → 키 react/리액트/reactjs → 표기 React
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordNormalizer {
+
+    private static final Pattern NON_KEY_CHARS = Pattern.compile("[\\s\\p{P}\\p{S}&&[^+#]]");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final KeywordDictionary dictionary;
+
+    /**
+     * 비교/집계용 키 (빈 문자열이면 의미 있는 글자가 없는 키워드)
+     */
+    public static String key(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(keyword, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return NON_KEY_CHARS.matcher(folded).replaceAll("");
+    }
+
+    /**
+     * 응답/저장용 표기 (키가 비어 있으면 null)
+     */
+    public String canonical(String keyword) {
+        String key = key(keyword);
+        if (key.isEmpty()) {
+            return null;
+        }
+        String canonical = dictionary.canonical(key);
+        if (canonical != null) {
+            return canonical;
+        }
+        return WHITESPACES.matcher(Normalizer.normalize(keyword, Normalizer.Form.NFKC).trim()).replaceAll(" ");
+    }
+
+    /**
+     * 같은 키의 키워드를 하나로 합치고 빈도 합산 (빈도 내림차순)
+     */
+    public KeywordResponseDto normalize(KeywordResponseDto response) {
+        if (response == null || response.getKeywordFrequencies() == null) {
+            return response;
+        }
+
+        Map<String, KeywordFrequencyDto> merged = new LinkedHashMap<>();
+        for (KeywordFrequencyDto frequency : response.getKeywordFrequencies()) {
+            String canonical = frequency == null ? null : canonical(frequency.getKeyword());
+            if (canonical == null) {
+                continue;
+            }
+            merged.merge(key(canonical), new KeywordFrequencyDto(canonical, frequency.getFrequency()),
+                    (a, b) -> new KeywordFrequencyDto(a.getKeyword(), a.getFrequency() + b.getFrequency()));
+        }
+
+        List<KeywordFrequencyDto> keywordFrequencies = new ArrayList<>(merged.values());
+        keywordFrequencies.sort(Comparator.comparingInt(KeywordFrequencyDto::getFrequency).reversed());
+        return new KeywordResponseDto(keywordFrequencies);
+    }
+}
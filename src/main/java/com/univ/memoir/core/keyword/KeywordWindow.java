@@ -0,0 +1,43 @@
+package com.univ.memoir.core.keyword;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * 상위 키워드 집계 구간
+ * - DAY: 해당 날짜, WEEK: 월요일 시작 ISO 주, MONTH: 달력 월
+ */
+public enum KeywordWindow {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public static KeywordWindow from(String value) {
+        if (value != null) {
+            for (KeywordWindow window : values()) {
+                if (window.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                    return window;
+                }
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 집계 구간입니다: " + value);
+    }
+
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate end(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
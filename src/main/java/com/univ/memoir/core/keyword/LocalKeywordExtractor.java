@@ -0,0 +1,106 @@
+package com.univ.memoir.core.keyword;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.api.dto.req.page.VisitedPageDto;
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.core.keyword.TitleTokenizer.Token;
+import com.univ.memoir.core.util.LruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 키워드 추출기 (GPT 호출 없이 프로세스 내에서 처리)
+ * - GPT 프롬프트와 같은 규칙: 제목당 대표 키워드 1개, 같은 키워드의 방문 수 = 빈도
+ * - 대표 키워드는 사용자 배경 코퍼스 기준 TF-IDF 최고 점수 토큰 (사전 용어 가중치)
+ * - 사용자별 코퍼스는 메모리에만 유지 (LRU로 사용자 수 제한)
+ */
+@Slf4j
+@Component
+public class LocalKeywordExtractor {
+
+    private static final double DICTIONARY_TERM_BOOST = 1.5;
+    private static final int MAX_KEYWORDS = 50;
+
+    private final TitleTokenizer tokenizer;
+    private final LruCache<Long, UserTermCorpus> corpora;
+
+    public LocalKeywordExtractor(TitleTokenizer tokenizer,
+                                 @Value("${memoir.keyword.corpus-max-users:10000}") int maxUsers) {
+        this.tokenizer = tokenizer;
+        this.corpora = new LruCache<>(maxUsers);
+    }
+
+    public KeywordResponseDto extract(Long userId, List<VisitedPageDto> visitedPages) {
+        long startedAt = System.nanoTime();
+        UserTermCorpus corpus = corpora.computeIfAbsent(userId, id -> new UserTermCorpus());
+
+        // 1. 토큰화 + 코퍼스 갱신 (현재 묶음도 배경 문서에 포함해야 흔한 단어의 IDF가 낮아짐)
+        List<List<Token>> tokenized = new ArrayList<>(visitedPages.size());
+        for (VisitedPageDto page : visitedPages) {
+            String title = page == null ? null : page.getTitle();
+            List<Token> tokens = tokenizer.tokenize(title);
+            tokenized.add(tokens);
+            if (!tokens.isEmpty()) {
+                Set<String> keys = new LinkedHashSet<>();
+                tokens.forEach(token -> keys.add(token.key()));
+                corpus.addDocument(title, keys);
+            }
+        }
+
+        // 2. 제목별 대표 키워드 선정 후 빈도 집계 (중복 제거로 합쳐진 방문 수만큼 가중)
+        Map<String, Integer> frequencies = new HashMap<>();
+        Map<String, String> displays = new HashMap<>();
+        for (int i = 0; i < tokenized.size(); i++) {
+            Token best = pickBest(tokenized.get(i), corpus);
+            if (best != null) {
+                VisitedPageDto page = visitedPages.get(i);
+                frequencies.merge(best.key(), Math.max(1, page.getVisitCount()), Integer::sum);
+                displays.putIfAbsent(best.key(), best.display());
+            }
+        }
+
+        List<KeywordFrequencyDto> keywordFrequencies = frequencies.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_KEYWORDS)
+                .map(entry -> new KeywordFrequencyDto(displays.get(entry.getKey()), entry.getValue()))
+                .toList();
+
+        log.debug("Local keyword extraction - userId: {}, pages: {}, keywords: {}, elapsedMs: {}",
+                userId, visitedPages.size(), keywordFrequencies.size(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        return new KeywordResponseDto(new ArrayList<>(keywordFrequencies));
+    }
+
+    private Token pickBest(List<Token> tokens, UserTermCorpus corpus) {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Integer> termFrequency = new HashMap<>();
+        tokens.forEach(token -> termFrequency.merge(token.key(), 1, Integer::sum));
+
+        Token best = null;
+        double bestScore = -1;
+        for (Token token : tokens) {
+            double score = termFrequency.get(token.key()) * corpus.idf(token.key())
+                    * (token.dictionaryTerm() ? DICTIONARY_TERM_BOOST : 1.0);
+            // 동점이면 앞쪽 토큰 유지
+            if (score > bestScore) {
+                best = token;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+}
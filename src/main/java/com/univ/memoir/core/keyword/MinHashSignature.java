@@ -0,0 +1,107 @@
+package com.univ.memoir.core.keyword;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 키워드 집합 MinHash 서명 + LSH 밴드 버킷
+ * - 서명 64개 = 16밴드 × 4행, 자카드 유사도 약 0.5 이상인 날이 같은 버킷에 걸릴 확률이 높음
+ * - 서명 일치 비율이 자카드 유사도의 추정값
+ */
+public final class MinHashSignature {
+
+    public static final int SIZE = 64;
+    public static final int BANDS = 16;
+    public static final int BYTES = SIZE * Integer.BYTES;
+
+    private static final int ROWS = SIZE / BANDS;
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        // 고정 시드 (서명을 DB에 저장하므로 실행마다 같아야 함)
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private MinHashSignature() {
+    }
+
+    /**
+     * @param keys 정규화된 키워드 키 집합
+     * @return 빈 집합이면 null
+     */
+    public static int[] of(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String key : keys) {
+            long base = CountMinSketch.hash(key);
+            for (int i = 0; i < SIZE; i++) {
+                int value = (int) (mix(base ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 추정 자카드 유사도 (0 ~ 1)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * 밴드별 버킷 키 (밴드 번호 포함 해시라 밴드 간 충돌 없음)
+     */
+    public static long[] bandBuckets(int[] signature) {
+        long[] buckets = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = mix(band + 1L);
+            for (int row = 0; row < ROWS; row++) {
+                hash = mix(hash ^ (signature[band * ROWS + row] & 0xFFFFFFFFL));
+            }
+            buckets[band] = hash;
+        }
+        return buckets;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    /**
+     * @return 길이가 맞지 않으면 null (서명 크기 변경 전 데이터)
+     */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
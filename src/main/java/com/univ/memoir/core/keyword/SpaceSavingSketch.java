@@ -0,0 +1,110 @@
+package com.univ.memoir.core.keyword;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+
+/**
+ * Space-Saving 상위 키워드 스케치
+ * - 최대 capacity개 카운터만 유지, 가득 차면 최소 카운터를 새 키워드로 교체 (최소값 + 가중치로 시작)
+ * - 카운트는 실제 빈도의 상한 (error 이하만큼 과대 추정), capacity보다 충분히 작은 k에서는 상위 k가 정확
+ * - 조회/갱신 비용이 전체 기록 크기와 무관하게 capacity에만 비례
+ */
+public class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void offer(String key, String display, long weight) {
+        offer(key, display, weight, 0);
+    }
+
+    /**
+     * 다른 스케치의 카운터를 누적 (주/월/임의 기간 = 일별 스케치 병합)
+     */
+    public void mergeFrom(SpaceSavingSketch other) {
+        List<Counter> snapshot;
+        synchronized (other) {
+            snapshot = new ArrayList<>(other.counters.size());
+            for (Counter counter : other.counters.values()) {
+                snapshot.add(counter.copy());
+            }
+        }
+        synchronized (this) {
+            for (Counter counter : snapshot) {
+                offer(counter.key, counter.display, counter.count, counter.error);
+            }
+        }
+    }
+
+    /**
+     * 상위 k개 (빈도 내림차순, 같으면 표기순)
+     */
+    public synchronized List<KeywordFrequencyDto> top(int k) {
+        return counters.values().stream()
+                .sorted((a, b) -> a.count != b.count ? Long.compare(b.count, a.count) : a.display.compareTo(b.display))
+                .limit(k)
+                .map(counter -> new KeywordFrequencyDto(counter.display, (int) Math.min(counter.count, Integer.MAX_VALUE)))
+                .toList();
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private void offer(String key, String display, long weight, long error) {
+        if (weight <= 0) {
+            return;
+        }
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            counter.error += error;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, display, weight, error));
+            return;
+        }
+
+        Counter min = null;
+        for (Counter candidate : counters.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, display, min.count + weight, min.count + error));
+    }
+
+    private static final class Counter {
+        private final String key;
+        private final String display;
+        private long count;
+        private long error;
+
+        private Counter(String key, String display, long count, long error) {
+            this.key = key;
+            this.display = display;
+            this.count = count;
+            this.error = error;
+        }
+
+        private Counter copy() {
+            return new Counter(key, display, count, error);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.univ.memoir.core.keyword;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 페이지 제목 토크나이저 (한글/영문)
+ * - 앞쪽 알림 수 "(3) " 와 끝의 사이트명 " - YouTube", " | GitHub" 제거
+ * - 한글 어절은 끝의 조사를 떼고, 영문은 C++, C#, Node.js 같은 표기를 유지
+ * - 인접한 두 토큰이 사전 용어면 하나로 합침 (Spring Boot)
+ * - 숫자, 한 글자, 불용어 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class TitleTokenizer {
+
+    private static final Pattern NOTIFICATION_PREFIX = Pattern.compile("^\\(\\d+\\+?\\)\\s*");
+    private static final Pattern TRAILING_SEGMENT = Pattern.compile("\\s+[-|–—·:]\\s+([^-|–—·:]+)$");
+    private static final Pattern TOKEN = Pattern.compile("[가-힣]+|[A-Za-z0-9][A-Za-z0-9+#]*(?:\\.[A-Za-z0-9]+)*");
+
+    // 긴 조사부터 검사
+    private static final String[] JOSA = {
+            "에서는", "으로는", "이라는", "에서", "으로", "에게", "까지", "부터", "처럼", "보다", "이란", "라는",
+            "은", "는", "이", "가", "을", "를", "에", "의", "로", "와", "과", "도", "만"
+    };
+
+    private final KeywordDictionary dictionary;
+
+    public List<Token> tokenize(String title) {
+        List<Token> tokens = new ArrayList<>();
+        if (title == null || title.isBlank()) {
+            return tokens;
+        }
+
+        List<String> words = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(stripDecorations(title));
+        while (matcher.find()) {
+            words.add(matcher.group());
+        }
+
+        for (int i = 0; i < words.size(); i++) {
+            // 두 단어 사전 용어 우선
+            if (i + 1 < words.size()) {
+                String pairKey = KeywordNormalizer.key(words.get(i) + words.get(i + 1));
+                String pairCanonical = dictionary.canonical(pairKey);
+                if (pairCanonical != null) {
+                    tokens.add(new Token(pairKey, pairCanonical, true));
+                    i++;
+                    continue;
+                }
+            }
+
+            Token token = toToken(words.get(i));
+            if (token != null) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private String stripDecorations(String title) {
+        String stripped = NOTIFICATION_PREFIX.matcher(title.trim()).replaceFirst("");
+
+        // 사이트명이 여러 단계로 붙는 경우 (" - 네이버 블로그")까지 반복 제거
+        Matcher matcher = TRAILING_SEGMENT.matcher(stripped);
+        while (matcher.find() && dictionary.isSiteSuffix(matcher.group(1).trim())) {
+            stripped = stripped.substring(0, matcher.start());
+            matcher = TRAILING_SEGMENT.matcher(stripped);
+        }
+        return stripped;
+    }
+
+    private Token toToken(String word) {
+        boolean hangul = word.charAt(0) >= '가' && word.charAt(0) <= '힣';
+        String surface = hangul ? stripJosa(word) : word;
+
+        String key = KeywordNormalizer.key(surface);
+        String canonical = dictionary.canonical(key);
+        if (canonical != null) {
+            return new Token(key, canonical, true);
+        }
+
+        if (surface.length() < 2 || isNumeric(surface) || dictionary.isStopWord(key)) {
+            return null;
+        }
+        return new Token(key, surface, false);
+    }
+
+    private String stripJosa(String word) {
+        if (dictionary.canonical(KeywordNormalizer.key(word)) != null) {
+            return word;
+        }
+        for (String josa : JOSA) {
+            if (word.length() - josa.length() >= 2 && word.endsWith(josa)) {
+                return word.substring(0, word.length() - josa.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean isNumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param key 집계 키 (KeywordNormalizer.key)
+     * @param display 응답 표기 (사전 용어는 사전 표기)
+     * @param dictionaryTerm 사전 용어 여부
+     */
+    public record Token(String key, String display, boolean dictionaryTerm) {}
+}
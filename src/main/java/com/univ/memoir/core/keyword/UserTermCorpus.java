@@ -0,0 +1,61 @@
+package com.univ.memoir.core.keyword;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.univ.memoir.core.util.UrlUtils;
+
+/**
+ * 사용자별 배경 코퍼스 (제목 = 문서)
+ * - 용어별 문서 빈도(df)와 전체 문서 수로 IDF 계산
+ * - 새 탭마다 같은 방문 목록이 다시 올라오므로 이미 본 제목은 다시 세지 않음 (64비트 해시로 판별)
+ * - 용어 수가 상한을 넘으면 모든 빈도를 절반으로 줄여 오래된 용어부터 자연 소멸
+ */
+class UserTermCorpus {
+
+    private static final int MAX_TERMS = 20_000;
+    private static final int MAX_SEEN_TITLES = 5_000;
+
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private final Set<Long> seenTitles = new LinkedHashSet<>();
+    private int documentCount;
+
+    /**
+     * 처음 보는 제목이면 문서로 추가
+     */
+    synchronized void addDocument(String title, Set<String> termKeys) {
+        if (!seenTitles.add(UrlUtils.hash64(title))) {
+            return;
+        }
+        if (seenTitles.size() > MAX_SEEN_TITLES) {
+            Iterator<Long> eldest = seenTitles.iterator();
+            eldest.next();
+            eldest.remove();
+        }
+
+        documentCount++;
+        for (String key : termKeys) {
+            documentFrequency.merge(key, 1, Integer::sum);
+        }
+        if (documentFrequency.size() > MAX_TERMS) {
+            decay();
+        }
+    }
+
+    /**
+     * 평활화한 IDF: ln((N + 1) / (df + 1)) + 1
+     */
+    synchronized double idf(String key) {
+        int df = documentFrequency.getOrDefault(key, 0);
+        return Math.log((documentCount + 1.0) / (df + 1.0)) + 1.0;
+    }
+
+    private void decay() {
+        documentFrequency.replaceAll((key, df) -> df / 2);
+        documentFrequency.values().removeIf(df -> df == 0);
+        documentCount = Math.max(1, documentCount / 2);
+    }
+}
@@ -0,0 +1,43 @@
+package com.univ.memoir.core.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.univ.memoir.core.domain.Bookmark;
+
+public interface BookmarkRepository extends JpaRepository<Bookmark, Bookmark.BookmarkId> {
+
+    @Query("SELECT b.url FROM Bookmark b WHERE b.userId = :userId ORDER BY b.url")
+    List<String> findUrlsByUserId(@Param("userId") Long userId);
+
+    /**
+     * keyset 페이지 조회 - (user_id, bookmark_url) 유니크 인덱스 범위 스캔
+     */
+    @Query("SELECT b.url FROM Bookmark b WHERE b.userId = :userId AND b.url > :cursor ORDER BY b.url")
+    List<String> findUrlsAfter(@Param("userId") Long userId, @Param("cursor") String cursor, Pageable pageable);
+
+    // ===== 단건 변경 (컬렉션 로딩 없이 (user_id, bookmark_url) 기준으로 직접 수정) =====
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_bookmarks (user_id, bookmark_url) VALUES (:userId, :url)",
+            nativeQuery = true)
+    int insertBookmark(@Param("userId") Long userId, @Param("url") String url);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_bookmarks WHERE user_id = :userId AND bookmark_url = :url",
+            nativeQuery = true)
+    int deleteBookmark(@Param("userId") Long userId, @Param("url") String url);
+
+    @Modifying
+    @Query(value = "UPDATE IGNORE user_bookmarks SET bookmark_url = :newUrl " +
+            "WHERE user_id = :userId AND bookmark_url = :oldUrl",
+            nativeQuery = true)
+    int updateBookmark(@Param("userId") Long userId,
+                       @Param("oldUrl") String oldUrl,
+                       @Param("newUrl") String newUrl);
+}
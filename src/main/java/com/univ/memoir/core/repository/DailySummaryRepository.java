@@ -1,6 +1,7 @@
 package com.univ.memoir.core.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,7 @@ import com.univ.memoir.core.domain.DailySummary;
 public interface DailySummaryRepository extends JpaRepository<DailySummary, Long> {
     Optional<DailySummary> findByUserAndDate(User user, LocalDate date);
 	List<DailySummary> findAllByUserAndDateBetween(User user, LocalDate start, LocalDate end);
+	List<DailySummary> findAllByUserIdOrderByIdDesc(Long userId);
+	List<DailySummary> findAllByUserAndDateIn(User user, Collection<LocalDate> dates);
+	List<DailySummary> findTop100ByUserAndKeywordSignatureIsNullOrderByIdDesc(User user);
 }
@@ -17,4 +17,15 @@ public interface KeywordDataRepository extends JpaRepository<KeywordData, Long>
             @Param("startOfDay") LocalDateTime startOfDay,
             @Param("endOfDay") LocalDateTime endOfDay
     );
+
+    /**
+     * 검색 색인용 - 키워드와 생성 시각만 조회
+     */
+    @Query("SELECT kd.keyword AS keyword, kd.createdAt AS createdAt FROM KeywordData kd WHERE kd.user.id = :userId")
+    List<KeywordView> findKeywordViewsByUserId(@Param("userId") Long userId);
+
+    interface KeywordView {
+        String getKeyword();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -0,0 +1,18 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.univ.memoir.core.domain.DigestPeriod;
+import com.univ.memoir.core.domain.PeriodDigest;
+import com.univ.memoir.core.domain.User;
+
+public interface PeriodDigestRepository extends JpaRepository<PeriodDigest, Long> {
+    Optional<PeriodDigest> findByUserAndPeriodTypeAndPeriodStart(User user, DigestPeriod periodType, LocalDate periodStart);
+
+    List<PeriodDigest> findAllByUserAndPeriodTypeAndPeriodStartBetween(User user, DigestPeriod periodType,
+                                                                        LocalDate start, LocalDate end);
+}
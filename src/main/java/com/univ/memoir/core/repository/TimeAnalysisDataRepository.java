@@ -1,6 +1,7 @@
 package com.univ.memoir.core.repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.univ.memoir.core.domain.TimeAnalysisData;
@@ -8,4 +9,9 @@ import com.univ.memoir.core.domain.User;
 
 public interface TimeAnalysisDataRepository extends JpaRepository<TimeAnalysisData, Long> {
     Optional<TimeAnalysisData> findByUserAndDate(User user, LocalDate date);
+
+    // 증분 모드 이전에는 호출마다 행이 추가되었으므로 가장 최근 행을 기준으로 사용
+    Optional<TimeAnalysisData> findFirstByUserAndDateOrderByIdDesc(User user, LocalDate date);
+
+    List<TimeAnalysisData> findAllByUserAndDateBetweenOrderByIdAsc(User user, LocalDate start, LocalDate end);
 }
\ No newline at end of file
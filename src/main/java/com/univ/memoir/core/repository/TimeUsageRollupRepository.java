@@ -0,0 +1,31 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.univ.memoir.core.domain.ActivityCategory;
+import com.univ.memoir.core.domain.TimeUsageRollup;
+
+public interface TimeUsageRollupRepository extends JpaRepository<TimeUsageRollup, Long> {
+
+    @Query("""
+            select r.usageDate as usageDate, r.category as category, r.hour as hour, sum(r.seconds) as seconds
+            from TimeUsageRollup r
+            where r.user.id = :userId and r.usageDate between :from and :to
+            group by r.usageDate, r.category, r.hour
+            """)
+    List<RollupCell> sumByDateCategoryHour(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    interface RollupCell {
+        LocalDate getUsageDate();
+        ActivityCategory getCategory();
+        Integer getHour();
+        Long getSeconds();
+    }
+}
@@ -2,6 +2,7 @@ package com.univ.memoir.core.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,9 +19,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u.id FROM User u WHERE u.email = :email")
     Optional<Long> findIdByEmail(@Param("email") String email);
 
-    @Query("SELECT DISTINCT u FROM User u " +
-            "LEFT JOIN FETCH u.interests " +
-            "LEFT JOIN FETCH u.bookmarkUrls " +
-            "WHERE u.email = :email")
-    Optional<User> findByEmailWithDetails(@Param("email") String email);
+    /**
+     * 날짜 경계 계산용 - id와 시간대만 조회
+     */
+    @Query("SELECT u.id AS id, u.timeZone AS timeZone FROM User u WHERE u.email = :email")
+    Optional<UserZoneView> findZoneViewByEmail(@Param("email") String email);
+
+    /**
+     * 관심사 변경용 - interests만 함께 조회 (user 1행 × 관심사 수)
+     */
+    @EntityGraph(attributePaths = "interests")
+    Optional<User> findWithInterestsByEmail(String email);
+
+    interface UserZoneView {
+        Long getId();
+        String getTimeZone();
+    }
 }
\ No newline at end of file
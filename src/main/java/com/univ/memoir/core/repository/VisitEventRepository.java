@@ -0,0 +1,47 @@
+package com.univ.memoir.core.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.univ.memoir.core.domain.VisitEvent;
+
+public interface VisitEventRepository extends JpaRepository<VisitEvent, Long> {
+
+    /**
+     * 시작 시각 구간 조회 - 실제 시작 시각이 있는 방문만 (키워드 업로드 스냅샷 제외)
+     */
+    @Query("SELECT e FROM VisitEvent e WHERE e.user.id = :userId " +
+            "AND e.source = com.univ.memoir.core.domain.VisitSource.TIMED " +
+            "AND e.startTimestamp >= :fromMillis AND e.startTimestamp < :toMillis " +
+            "ORDER BY e.startTimestamp")
+    List<VisitEvent> findByUserIdAndStartTimestampRange(
+            @Param("userId") Long userId,
+            @Param("fromMillis") long fromMillis,
+            @Param("toMillis") long toMillis
+    );
+
+    /**
+     * 검색 색인용 - 제목 × 날짜별 한 행 (첫 방문 시각), 최근 날짜부터 (0시로 기록된 키워드 업로드 스냅샷 제외)
+     *
+     * @param offsetMillis 날짜 경계를 맞출 사용자 시간대 오프셋
+     */
+    @Query("SELECT e.title AS title, MIN(e.startTimestamp) AS startTimestamp FROM VisitEvent e " +
+            "WHERE e.user.id = :userId AND e.title IS NOT NULL " +
+            "AND e.source = com.univ.memoir.core.domain.VisitSource.TIMED " +
+            "GROUP BY e.title, FLOOR((e.startTimestamp + :offsetMillis) / 86400000) " +
+            "ORDER BY MIN(e.startTimestamp) DESC")
+    List<TitleView> findDailyTitleViewsByUserId(
+            @Param("userId") Long userId,
+            @Param("offsetMillis") long offsetMillis,
+            Pageable pageable
+    );
+
+    interface TitleView {
+        String getTitle();
+        long getStartTimestamp();
+    }
+}
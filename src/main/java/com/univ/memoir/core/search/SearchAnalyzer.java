@@ -0,0 +1,78 @@
+package com.univ.memoir.core.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+import com.univ.memoir.core.keyword.TitleTokenizer;
+import com.univ.memoir.core.keyword.TitleTokenizer.Token;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색용 분석기 (색인과 질의에 같은 규칙 사용)
+ * - 단어: TitleTokenizer 토큰 키, 사전 용어는 사전 표기 키로 통일 ("리액트" → "react")
+ * - 한글 3글자 이상 단어는 음절 bigram도 함께 생성 (복합어 일부로 검색 가능)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchAnalyzer {
+
+    // 정규화 키에는 ':'가 남지 않으므로 bigram 구분용 접두어로 사용
+    static final String BIGRAM_PREFIX = "2:";
+
+    private final TitleTokenizer tokenizer;
+
+    /**
+     * 색인용 - 단어와 bigram 모두
+     */
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        for (Term term : terms(text)) {
+            terms.add(term.term());
+            terms.addAll(term.bigrams());
+        }
+        return terms;
+    }
+
+    /**
+     * 질의용 - 단어별로 bigram 대체 후보를 함께 반환
+     */
+    public List<Term> terms(String text) {
+        List<Term> terms = new ArrayList<>();
+        for (Token token : tokenizer.tokenize(text)) {
+            String term = token.dictionaryTerm() ? KeywordNormalizer.key(token.display()) : token.key();
+            terms.add(new Term(term, token.dictionaryTerm() ? List.of() : bigrams(term)));
+        }
+        return terms;
+    }
+
+    private static List<String> bigrams(String term) {
+        if (term.length() < 3 || !isHangul(term)) {
+            return List.of();
+        }
+        List<String> bigrams = new ArrayList<>(term.length() - 1);
+        for (int i = 0; i + 2 <= term.length(); i++) {
+            bigrams.add(BIGRAM_PREFIX + term.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    private static boolean isHangul(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c < '가' || c > '힣') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param term 단어 키
+     * @param bigrams 단어가 색인에 없을 때 대신 사용할 bigram (한글 3글자 이상만)
+     */
+    public record Term(String term, List<String> bigrams) {}
+}
@@ -0,0 +1,233 @@
+package com.univ.memoir.core.search;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.univ.memoir.core.search.SearchAnalyzer.Term;
+import com.univ.memoir.core.util.UrlUtils;
+
+/**
+ * 사용자 한 명의 날짜 단위 역색인 (BM25 순위)
+ * - 문서 = 날짜(epoch day), 필드 = 요약(문장 + 요약 키워드, 교체), 키워드(누적), 페이지 제목(누적)
+ * - 키워드/제목은 같은 날 같은 값이면 한 번만 반영 (제목은 64비트 해시로 비교)
+ * - 키워드는 출처(키워드 행 / 요약)를 기록해서 요약을 교체할 때 요약에서만 온 키워드만 뺌
+ * - 질의 비용은 질의 단어의 posting 크기에만 비례 (전체 기록을 훑지 않음)
+ *
+ * 메서드 단위 읽기/쓰기 락 (검색끼리는 동시 실행, 분석은 호출 측에서 락 밖에서 수행)
+ */
+public class UserSearchIndex {
+
+    private static final float KEYWORD_WEIGHT = 2.0f;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final float EPSILON = 1e-4f;
+
+    private final ZoneId zoneId;
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+    private final Map<Integer, DayDocument> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    public UserSearchIndex(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * 색인 날짜 계산에 사용한 시간대 (시간대가 바뀌면 색인을 새로 만들어야 함)
+     */
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    /**
+     * 요약 색인 - 이전 요약의 문장과, 요약에서만 온 키워드를 빼고 새 요약으로 교체
+     *
+     * @param keywords 요약 키워드 (키 → 분석된 단어)
+     * @param snippet 요약 첫 문장 (null이면 기존 스니펫 유지)
+     * @param replace false면 이미 요약이 있는 날짜는 건너뜀 (DB 적재 시 최신 쓰기를 덮지 않도록)
+     */
+    public void putSummary(LocalDate date, List<String> terms, Map<String, List<String>> keywords, String snippet,
+                           boolean replace) {
+        lock.writeLock().lock();
+        try {
+            DayDocument document = document(date);
+            if (document.summaryTerms != null && !replace) {
+                return;
+            }
+
+            if (document.summaryTerms != null) {
+                document.summaryTerms.forEach((term, weight) -> remove(term, date, weight, document));
+                for (String key : document.summaryKeywords) {
+                    KeywordSource source = document.keywords.get(key);
+                    if (!source.fromRow) {
+                        source.terms.forEach(term -> remove(term, date, KEYWORD_WEIGHT, document));
+                        document.keywords.remove(key);
+                    }
+                }
+            }
+
+            Map<String, Float> weights = new HashMap<>();
+            terms.forEach(term -> weights.merge(term, 1f, Float::sum));
+            weights.forEach((term, weight) -> add(term, date, weight, document));
+            document.summaryTerms = weights;
+            document.summaryKeywords = new HashSet<>(keywords.keySet());
+            keywords.forEach((key, keywordTerms) -> keyword(document, date, key, keywordTerms));
+            if (snippet != null) {
+                document.snippet = snippet;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addKeyword(LocalDate date, String keywordKey, List<String> terms) {
+        lock.writeLock().lock();
+        try {
+            DayDocument document = document(date);
+            keyword(document, date, keywordKey, terms).fromRow = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addTitle(LocalDate date, String title, List<String> terms) {
+        lock.writeLock().lock();
+        try {
+            DayDocument document = document(date);
+            if (document.titleHashes.add(UrlUtils.hash64(title))) {
+                terms.forEach(term -> add(term, date, 1f, document));
+                if (document.snippet == null) {
+                    document.snippet = title;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(List<Term> queryTerms, int limit) {
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty() || queryTerms.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = totalLength / documents.size();
+            Map<Integer, Double> scores = new HashMap<>();
+
+            Map<String, Term> distinct = new LinkedHashMap<>();
+            queryTerms.forEach(term -> distinct.putIfAbsent(term.term(), term));
+            for (Term term : distinct.values()) {
+                Map<Integer, Float> exact = postings.get(term.term());
+                if (exact != null) {
+                    accumulate(exact, 1.0, averageLength, scores);
+                    continue;
+                }
+                // 단어 자체가 없으면 bigram으로 부분 일치 (단어 하나와 비슷한 크기가 되도록 나눠서 반영)
+                for (String bigram : term.bigrams()) {
+                    Map<Integer, Float> partial = postings.get(bigram);
+                    if (partial != null) {
+                        accumulate(partial, 1.0 / term.bigrams().size(), averageLength, scores);
+                    }
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(entry -> new Hit(LocalDate.ofEpochDay(entry.getKey()), entry.getValue(),
+                            documents.get(entry.getKey()).snippet))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(Map<Integer, Float> posting, double boost, double averageLength, Map<Integer, Double> scores) {
+        int documentCount = documents.size();
+        double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+        posting.forEach((day, tf) -> {
+            double length = documents.get(day).length;
+            double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+            scores.merge(day, boost * score, Double::sum);
+        });
+    }
+
+    private DayDocument document(LocalDate date) {
+        return documents.computeIfAbsent((int) date.toEpochDay(), day -> new DayDocument());
+    }
+
+    /**
+     * 처음 들어온 키워드만 단어를 반영 (키워드 행과 요약에 모두 있어도 한 번만 계산)
+     */
+    private KeywordSource keyword(DayDocument document, LocalDate date, String keywordKey, List<String> terms) {
+        return document.keywords.computeIfAbsent(keywordKey, key -> {
+            terms.forEach(term -> add(term, date, KEYWORD_WEIGHT, document));
+            return new KeywordSource(terms);
+        });
+    }
+
+    private void add(String term, LocalDate date, float weight, DayDocument document) {
+        postings.computeIfAbsent(term, t -> new HashMap<>()).merge((int) date.toEpochDay(), weight, Float::sum);
+        document.length += weight;
+        totalLength += weight;
+    }
+
+    private void remove(String term, LocalDate date, float weight, DayDocument document) {
+        Map<Integer, Float> posting = postings.get(term);
+        if (posting == null) {
+            return;
+        }
+        int day = (int) date.toEpochDay();
+        Float remaining = posting.computeIfPresent(day, (d, tf) -> tf - weight > EPSILON ? tf - weight : null);
+        if (remaining == null && posting.isEmpty()) {
+            postings.remove(term);
+        }
+        document.length -= weight;
+        totalLength -= weight;
+    }
+
+    private static final class DayDocument {
+        private Map<String, Float> summaryTerms;
+        private Set<String> summaryKeywords = Set.of();
+        private final Map<String, KeywordSource> keywords = new HashMap<>();
+        private final Set<Long> titleHashes = new HashSet<>();
+        private float length;
+        private String snippet;
+    }
+
+    /**
+     * 키워드의 분석된 단어와 키워드 행 출처 여부 (요약 출처는 DayDocument.summaryKeywords)
+     */
+    private static final class KeywordSource {
+        private final List<String> terms;
+        private boolean fromRow;
+
+        private KeywordSource(List<String> terms) {
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * @param snippet 요약 첫 문장 (요약이 없으면 첫 페이지 제목)
+     */
+    public record Hit(LocalDate date, double score, String snippet) {}
+}
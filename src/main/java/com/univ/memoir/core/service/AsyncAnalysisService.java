@@ -0,0 +1,50 @@
+package com.univ.memoir.core.service;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.univ.memoir.api.dto.req.page.VisitedPagesRequest;
+import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.api.dto.res.time.ActivityStats;
+import com.univ.memoir.config.AsyncConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OpenAI 호출이 포함된 분석을 llmExecutor에서 실행하는 비동기 진입점
+ * - 컨트롤러는 CompletableFuture를 반환하고 요청 스레드는 바로 반납 (spring.mvc.async.request-timeout 적용)
+ * - 실제 로직/트랜잭션은 각 서비스 프록시를 통해 그대로 실행
+ * - GPT를 여러 번 호출하는 작업은 작업 시작 시점부터 memoir.llm.deadline-ms를 요청 전체 마감으로 공유
+ */
+@Service
+@RequiredArgsConstructor
+public class AsyncAnalysisService {
+
+    private final TimeService timeService;
+    private final DailySummaryService dailySummaryService;
+    private final KeywordService keywordService;
+
+    @Value("${memoir.llm.deadline-ms:55000}")
+    private long deadlineMs;
+
+    @Async(AsyncConfig.LLM_EXECUTOR)
+    public CompletableFuture<ActivityStats> analyzeTimeStats(String email, TimeAnalysisRequest request, boolean incremental) {
+        return CompletableFuture.completedFuture(timeService.analyzeTimeStats(email, request, incremental));
+    }
+
+    @Async(AsyncConfig.LLM_EXECUTOR)
+    public CompletableFuture<DailySummaryService.DailySummaryResult> summarizeDay(String email, TimeAnalysisRequest request) {
+        Instant deadline = Instant.now().plusMillis(deadlineMs);
+        return CompletableFuture.completedFuture(dailySummaryService.summarizeDay(email, request, deadline));
+    }
+
+    @Async(AsyncConfig.LLM_EXECUTOR)
+    public CompletableFuture<KeywordResponseDto> analyzeKeywords(String accessToken, VisitedPagesRequest request) {
+        return CompletableFuture.completedFuture(keywordService.analyzeKeywords(accessToken, request));
+    }
+}
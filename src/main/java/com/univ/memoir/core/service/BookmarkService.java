@@ -1,15 +1,24 @@
 package com.univ.memoir.core.service;
 
-import java.util.Set;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 
 import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.univ.memoir.api.dto.req.bookmark.BookmarkRequestDto;
 import com.univ.memoir.api.dto.req.bookmark.BookmarkUpdateRequestDto;
+import com.univ.memoir.api.dto.res.bookmark.BookmarkPageResponse;
 import com.univ.memoir.api.exception.codes.ErrorCode;
-import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.repository.BookmarkRepository;
 import com.univ.memoir.core.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -19,37 +28,109 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class BookmarkService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
 
-    public Set<String> getBookmarks(String email) {
-        User user = userRepository.findByEmailWithDetails(email)
-                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public List<String> getBookmarks(String email) {
+        return bookmarkRepository.findUrlsByUserId(findUserId(email));
+    }
+
+    /**
+     * keyset 페이지 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기 (최대 100)
+     */
+    public BookmarkPageResponse getBookmarkPage(String email, String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<String> urls = bookmarkRepository.findUrlsAfter(
+                findUserId(email), cursor == null ? "" : cursor, PageRequest.of(0, pageSize + 1));
 
-        return user.getBookmarks();
+        boolean hasNext = urls.size() > pageSize;
+        List<String> page = hasNext ? urls.subList(0, pageSize) : urls;
+        String nextCursor = hasNext ? page.get(page.size() - 1) : null;
+
+        return new BookmarkPageResponse(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 즐겨찾기를 NDJSON으로 스트리밍
+     * - keyset 배치 단위로 조회 후 바로 기록하여 전체 목록을 메모리에 올리지 않음
+     * - 응답 기록은 클라이언트 속도에 묶이므로 스트림 전체를 트랜잭션으로 감싸지 않고,
+     *   배치 조회마다 짧은 읽기 전용 트랜잭션을 열어 커넥션을 바로 반납
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportBookmarks(Long userId, OutputStream out) throws IOException {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        String cursor = "";
+        while (true) {
+            String after = cursor;
+            List<String> urls = readOnlyTransaction.execute(status -> bookmarkRepository.findUrlsAfter(
+                    userId, after, PageRequest.of(0, EXPORT_BATCH_SIZE)));
+
+            for (String url : urls) {
+                out.write(objectMapper.writeValueAsBytes(Map.of("url", url)));
+                out.write('\n');
+            }
+            out.flush();
+
+            if (urls.size() < EXPORT_BATCH_SIZE) {
+                return;
+            }
+            cursor = urls.get(urls.size() - 1);
+        }
     }
 
     @Transactional
     public void addBookmark(String email, BookmarkRequestDto requestDto) {
-        User user = userRepository.findByEmailWithDetails(email)
-                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        user.addBookmarkUrl(requestDto.getUrl());
+        Long userId = findUserId(email);
+        bookmarkRepository.insertBookmark(userId, requireUrl(requestDto.getUrl()));
     }
 
     @Transactional
     public void removeBookmark(String email, BookmarkRequestDto requestDto) {
-        User user = userRepository.findByEmailWithDetails(email)
-                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        user.removeBookmarkUrl(requestDto.getUrl());
+        Long userId = findUserId(email);
+        bookmarkRepository.deleteBookmark(userId, requireUrl(requestDto.getUrl()));
     }
 
     @Transactional
     public void updateBookmark(String email, BookmarkUpdateRequestDto requestDto) {
-        User user = userRepository.findByEmailWithDetails(email)
+        Long userId = findUserId(email);
+        String oldUrl = requireUrl(requestDto.getOldUrl());
+        String newUrl = requireUrl(requestDto.getNewUrl());
+
+        // 대부분은 UPDATE 한 번으로 끝남
+        // 변경된 행이 없으면 (기존 URL이 없거나 새 URL이 이미 존재) 삭제 + 추가로 처리
+        if (bookmarkRepository.updateBookmark(userId, oldUrl, newUrl) == 0) {
+            bookmarkRepository.deleteBookmark(userId, oldUrl);
+            bookmarkRepository.insertBookmark(userId, newUrl);
+        }
+    }
+
+    /**
+     * 즐겨찾기 처리에는 User 엔티티가 필요 없으므로 ID만 조회
+     */
+    public Long findUserId(String email) {
+        return userRepository.findIdByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
+    }
 
-        user.removeBookmarkUrl(requestDto.getOldUrl());
-        user.addBookmarkUrl(requestDto.getNewUrl());
+    private String requireUrl(String url) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("즐겨찾기 URL이 비어 있습니다.");
+        }
+        return url;
     }
-}
\ No newline at end of file
+}
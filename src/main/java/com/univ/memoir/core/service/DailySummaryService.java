@@ -1,34 +1,39 @@
 package com.univ.memoir.core.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.dto.req.page.VisitedPageDto;
 import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
 import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+import com.univ.memoir.api.dto.res.DailySummaryRawResponse;
 import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.LlmDeadlineExceededException;
 import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import com.univ.memoir.core.analysis.ActivityAggregator;
+import com.univ.memoir.core.analysis.Sessionizer;
+import com.univ.memoir.core.analysis.TimelineBuilder;
+import com.univ.memoir.core.domain.ActivityCategory;
 import com.univ.memoir.core.domain.DailySummary;
 import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.keyword.LocalKeywordExtractor;
 import com.univ.memoir.core.repository.DailySummaryRepository;
 
 
@@ -37,36 +42,53 @@ public class DailySummaryService {
 
 	private static final Logger log = LoggerFactory.getLogger(DailySummaryService.class);
 
-	private final RestTemplate restTemplate;
+	private static final String SUMMARY_MODE_LOCAL = "local";
+	private static final int TIMELINE_ENTRIES = 3;
+	private static final int TOP_KEYWORDS = 3;
+	private static final int MAX_PROMPT_TITLES = 60;
+
+	private final OpenAiChatClient openAiChatClient;
 	private final ObjectMapper objectMapper;
 	private final DailySummaryRepository dailySummaryRepository;
 	private final UserService userService;
+	private final VisitEventIngester visitEventIngester;
+	private final Sessionizer sessionizer;
+	private final SearchIndexService searchIndexService;
+	private final SimilarDayService similarDayService;
+	private final DailyUsageCellService dailyUsageCellService;
+	private final LocalKeywordExtractor localKeywordExtractor;
 
 	public DailySummaryService(
-			@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+			OpenAiChatClient openAiChatClient,
 			ObjectMapper objectMapper,
-			DailySummaryRepository dailySummaryRepository, UserService userService
+			DailySummaryRepository dailySummaryRepository, UserService userService,
+			VisitEventIngester visitEventIngester,
+			Sessionizer sessionizer,
+			SearchIndexService searchIndexService,
+			SimilarDayService similarDayService,
+			DailyUsageCellService dailyUsageCellService,
+			LocalKeywordExtractor localKeywordExtractor
 	) {
-		this.restTemplate = restTemplate;
+		this.openAiChatClient = openAiChatClient;
 		this.objectMapper = objectMapper;
 		this.dailySummaryRepository = dailySummaryRepository;
 		this.userService = userService;
+		this.visitEventIngester = visitEventIngester;
+		this.sessionizer = sessionizer;
+		this.searchIndexService = searchIndexService;
+		this.similarDayService = similarDayService;
+		this.dailyUsageCellService = dailyUsageCellService;
+		this.localKeywordExtractor = localKeywordExtractor;
 	}
 
-	@Value("${openai.model}")
-	private String OPENAI_MODEL;
-
-	@Value("${openai.api.base-url}")
-	private String OPENAI_BASE_URL;
-
-	@Value("${openai.uri}")
-	private String OPENAI_URI;
+	@Value("${memoir.summary.mode:gpt}")
+	private String summaryMode;
 
-	private static final List<String> VALID_CATEGORIES = List.of(
-			"공부, 학습", "뉴스, 정보 탐색", "콘텐츠 소비", "쇼핑", "업무, 프로젝트"
-	);
+	@Value("${openai.api.connect-timeout-ms:5000}")
+	private long openAiConnectTimeoutMs;
 
-	private static final String DEFAULT_CATEGORY = "콘텐츠 소비";
+	@Value("${openai.api.read-timeout-ms:25000}")
+	private long openAiReadTimeoutMs;
 
 	/**
 	 * 사용자의 일일 활동을 요약합니다.
@@ -76,6 +98,17 @@ public class DailySummaryService {
 	 * @return 요약된 일일 활동 결과
 	 */
 	public DailySummaryResult summarizeDay(String email, TimeAnalysisRequest request) {
+		return summarizeDay(email, request, null);
+	}
+
+	/**
+	 * 요청 전체 마감이 있는 일일 활동 요약 (GPT를 최대 두 번 호출하므로 호출 사이에 마감 확인)
+	 * - 분류 호출 전에 마감이 지났으면 LlmDeadlineExceededException (503)
+	 * - 요약 호출 한 번(connect + read 제한 시간)을 끝낼 시간이 남지 않았으면 로컬 요약으로 대체
+	 *
+	 * @param deadline 요청 전체 마감 (null이면 제한 없음)
+	 */
+	public DailySummaryResult summarizeDay(String email, TimeAnalysisRequest request, Instant deadline) {
 		User currentUser = userService.findByEmailForSummary(email);
 
 		if (currentUser == null) {
@@ -89,30 +122,49 @@ public class DailySummaryService {
 
 		LocalDate localDate = LocalDate.parse(request.getDate());
 
-		// 1. GPT를 통해 페이지 카테고리 분류 (동기 호출)
-		List<CategorizedPage> categorizedPages = fetchCategoriesFromGPT(pages);
-
-		// 2. 활동 통계 계산
-		DailyActivityStats stats = calculateStats(categorizedPages);
+		// 원본 방문 기록 보관 (비동기 배치 적재)
+		visitEventIngester.enqueueTimedVisits(currentUser.getId(), pages);
 
-		// 3. GPT를 통해 일일 요약 생성 (동기 호출)
-		GptSummary gptSummary = fetchDailySummaryFromGPT(request.getDate(), categorizedPages);
+		// 1. 연속된 같은 페이지 방문을 세션으로 합친 뒤 GPT로 카테고리 분류 (동기 호출)
+		if (deadline != null && Instant.now().isAfter(deadline)) {
+			throw new LlmDeadlineExceededException();
+		}
+		List<Sessionizer.Session> sessions = sessionizer.sessionize(pages);
+		List<CategorizedPage> categorizedPages = fetchCategoriesFromGPT(sessions);
+
+		// 2. 활동 통계 계산 (사용자 시간대 기준)
+		ZoneId zoneId = currentUser.zoneId();
+		ActivityAggregator stats = calculateStats(categorizedPages, zoneId);
+
+		// 3. 타임라인은 시간대 집계로 로컬 생성, GPT에는 키워드와 요약 문장만 요청 (local 모드는 GPT 호출 없음)
+		List<TimelineBuilder.Block> timeline = buildTimeline(categorizedPages, stats, zoneId);
+		boolean local = SUMMARY_MODE_LOCAL.equalsIgnoreCase(summaryMode);
+		if (!local && !hasTimeForLlmCall(deadline)) {
+			log.warn("LLM deadline too close, using local summary - userId: {}, date: {}", currentUser.getId(), request.getDate());
+			local = true;
+		}
+		SummaryContent content = local
+				? buildLocalSummary(currentUser.getId(), localDate, categorizedPages, stats, timeline)
+				: fetchDailySummaryFromGPT(request.getDate(), categorizedPages, timeline);
 
 		// 4. 결과 객체 생성
 		DailySummaryResult result = new DailySummaryResult(
 				request.getDate(),
-				gptSummary.topKeywords,
-				gptSummary.dailyTimeline,
-				gptSummary.summaryText,
+				content.topKeywords,
+				timeline.stream()
+						.map(block -> new DailySummaryResult.DailyTimelineEntry(block.time(), block.description()))
+						.toList(),
+				content.summaryText,
 				new DailySummaryResult.ActivityStats(
-						stats.totalUsageMinutes,
-						stats.getCategoryPercentages()
+						stats.getTotalMinutes(),
+						toActivityProportions(stats)
 				)
 		);
 
-		// 5. DB 저장 (User 정보 포함)
+		// 5. DB 저장 (User 정보 포함, 비슷한 날 찾기용 키워드 서명 포함)
+		DailySummary summary;
 		try {
-			dailySummaryRepository.save(new DailySummary(
+			summary = new DailySummary(
 					currentUser,
 					localDate,
 					objectMapper.writeValueAsString(result.topKeywords()),
@@ -120,23 +172,44 @@ public class DailySummaryService {
 					objectMapper.writeValueAsString(result.summaryText()),
 					result.activityStats().totalUsageTimeMinutes(),
 					objectMapper.writeValueAsString(result.activityStats().activityProportions())
-			));
+			);
 		} catch (JsonProcessingException e) {
 			log.error("DB 저장용 JSON 직렬화 실패", e);
 			throw new RuntimeException("DB 저장용 JSON 직렬화 실패", e);
 		}
+		summary.updateKeywordSignature(
+				similarDayService.signature(currentUser.getId(), localDate, zoneId, summary.getTopKeywordsJson()));
+		dailySummaryRepository.save(summary);
+		similarDayService.replaceBuckets(currentUser.getId(), localDate, summary.getKeywordSignature());
+		dailyUsageCellService.markSummary(currentUser.getId(), localDate, stats);
+
+		// 6. 검색 색인 반영 (색인이 메모리에 있는 경우만)
+		searchIndexService.indexSummary(currentUser.getId(), localDate, result.summaryText(),
+				result.topKeywords().stream().map(DailySummaryResult.TopKeyword::keyword).toList());
 
 		return result;
 	}
 
+	/**
+	 * 마감 전에 GPT 호출 한 번(연결 + 응답 제한 시간)을 끝낼 수 있는지 확인합니다.
+	 */
+	private boolean hasTimeForLlmCall(Instant deadline) {
+		if (deadline == null) {
+			return true;
+		}
+		Duration remaining = Duration.between(Instant.now(), deadline);
+		return remaining.toMillis() >= openAiConnectTimeoutMs + openAiReadTimeoutMs;
+	}
+
 	/**
 	 * 특정 날짜의 일일 요약을 조회합니다.
+	 * 저장된 JSON 조각은 이미 유효한 JSON이므로 역직렬화 없이 응답에 그대로 삽입합니다.
 	 *
 	 * @param email 사용자 이메일 (SecurityContext에서 추출)
 	 * @param date 조회할 날짜
 	 * @return 일일 요약 결과
 	 */
-	public DailySummaryResult getDaily(String email, LocalDate date) {
+	public DailySummaryRawResponse.Data getDaily(String email, LocalDate date) {
 		// ✅ 이메일로 User 조회
 		User user = userService.findByEmailForSummary(email);
 
@@ -144,77 +217,31 @@ public class DailySummaryService {
 			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
 		}
 
-		Optional<DailySummary> optionalData = dailySummaryRepository.findByUserAndDate(user, date);
-
-		if (optionalData.isEmpty()) {
-			// 데이터 없을 경우, 빈 객체 반환
-			return new DailySummaryResult(
-					date.toString(),
-					Collections.emptyList(),
-					Collections.emptyList(),
-					Collections.emptyList(),
-					new DailySummaryResult.ActivityStats(0, Collections.emptyList())
-			);
-		}
-
-		DailySummary data = optionalData.get();
-
-		try {
-			List<DailySummaryResult.TopKeyword> topKeywords = objectMapper.readValue(
-					data.getTopKeywordsJson(),
-					objectMapper.getTypeFactory().constructCollectionType(
-							List.class, DailySummaryResult.TopKeyword.class
-					)
-			);
-
-			List<DailySummaryResult.DailyTimelineEntry> dailyTimeline = objectMapper.readValue(
-					data.getTimelineJson(),
-					objectMapper.getTypeFactory().constructCollectionType(
-							List.class, DailySummaryResult.DailyTimelineEntry.class
-					)
-			);
-
-			List<String> summaryText = objectMapper.readValue(
-					data.getSummaryTextJson(),
-					objectMapper.getTypeFactory().constructCollectionType(
-							List.class, String.class
-					)
-			);
-
-			List<DailySummaryResult.ActivityProportion> activityProportions = objectMapper.readValue(
-					data.getActivityProportionsJson(),
-					objectMapper.getTypeFactory().constructCollectionType(
-							List.class, DailySummaryResult.ActivityProportion.class
-					)
-			);
-
-			return new DailySummaryResult(
-					date.toString(),
-					topKeywords,
-					dailyTimeline,
-					summaryText,
-					new DailySummaryResult.ActivityStats(
-							data.getTotalUsageMinutes(),
-							activityProportions
-					)
-			);
-		} catch (JsonProcessingException e) {
-			log.error("일일 요약 데이터 역직렬화 실패", e);
-			throw new RuntimeException("일일 요약 데이터 역직렬화 실패", e);
-		}
+		// 데이터 없을 경우, 빈 객체 반환
+		return dailySummaryRepository.findByUserAndDate(user, date)
+				.map(data -> DailySummaryRawResponse.of(
+						date.toString(),
+						data.getTopKeywordsJson(),
+						data.getTimelineJson(),
+						data.getSummaryTextJson(),
+						data.getTotalUsageMinutes(),
+						data.getActivityProportionsJson()
+				))
+				.orElseGet(() -> DailySummaryRawResponse.empty(date.toString()));
 	}
 
 	/**
 	 * GPT를 통해 방문 페이지의 카테고리를 분류합니다.
 	 */
-	private List<CategorizedPage> fetchCategoriesFromGPT(List<VisitedPageForTimeDto> pages) {
+	private List<CategorizedPage> fetchCategoriesFromGPT(List<Sessionizer.Session> sessions) {
+		List<VisitedPageForTimeDto> pages = Sessionizer.pagesOf(sessions);
 		String prompt;
 		try {
 			String pagesJson = objectMapper.writeValueAsString(pages);
 			prompt = """
                    아래는 사용자의 방문 기록입니다. 각 페이지의 제목과 URL을 참고하여 해당 페이지의 카테고리를 분류하세요.
                    카테고리는 다음 중 하나로만 정하세요:
-                   '공부, 학습', '뉴스, 정보 탐색', '콘텐츠 소비', '쇼핑', '업무, 프로젝트'
+                   %s
 
                    다음 형식으로만 응답하세요 (JSON strict array):
                    [
@@ -224,35 +251,14 @@ public class DailySummaryService {
 
                    방문 기록:
                    %s
-                   """.formatted(pagesJson);
+                   """.formatted(ActivityCategory.promptLabels(), pagesJson);
 		} catch (JsonProcessingException e) {
 			log.error("페이지 목록 JSON 직렬화 실패", e);
 			throw new RuntimeException("페이지 목록 JSON 직렬화 실패", e);
 		}
 
-		Map<String, Object> requestBody = Map.of(
-				"model", OPENAI_MODEL,
-				"messages", List.of(
-						Map.of("role", "system", "content", "당신은 인터넷 기록 분류 전문가입니다."),
-						Map.of("role", "user", "content", prompt)
-				),
-				"temperature", 0.2
-		);
-
 		try {
-			Map<String, Object> response = restTemplate.postForObject(
-					OPENAI_BASE_URL + OPENAI_URI,
-					requestBody,
-					Map.class
-			);
-
-			List<?> choices = (List<?>) response.get("choices");
-			if (choices == null || choices.isEmpty()) {
-				throw new RuntimeException("GPT 응답에 'choices' 필드가 없습니다.");
-			}
-
-			Map<String, Object> message = (Map<String, Object>) ((Map<?, ?>) choices.get(0)).get("message");
-			String content = Objects.toString(message.get("content"), "").trim();
+			String content = openAiChatClient.complete("당신은 인터넷 기록 분류 전문가입니다.", prompt, 0.2);
 
 			List<Map<String, String>> parsedList = objectMapper.readValue(content, List.class);
 
@@ -260,7 +266,7 @@ public class DailySummaryService {
 			if (parsedList.size() < pages.size()) {
 				int diff = pages.size() - parsedList.size();
 				for (int i = 0; i < diff; i++) {
-					parsedList.add(Map.of("title", "", "url", "", "category", DEFAULT_CATEGORY));
+					parsedList.add(Map.of("title", "", "url", "", "category", ActivityCategory.DEFAULT.getLabel()));
 				}
 			} else if (parsedList.size() > pages.size()) {
 				parsedList = parsedList.subList(0, pages.size());
@@ -268,15 +274,15 @@ public class DailySummaryService {
 
 			List<CategorizedPage> result = new ArrayList<>();
 			for (int i = 0; i < pages.size(); i++) {
-				String category = parsedList.get(i).getOrDefault("category", DEFAULT_CATEGORY);
+				String raw = parsedList.get(i).get("category");
 
 				// ★ 유효하지 않은 카테고리 기본값으로 대체 ★
-				if (!VALID_CATEGORIES.contains(category)) {
-					log.warn("잘못된 카테고리 '{}' → 기본값 '{}'으로 대체", category, DEFAULT_CATEGORY);
-					category = DEFAULT_CATEGORY;
-				}
+				ActivityCategory category = ActivityCategory.parse(raw).orElseGet(() -> {
+					log.warn("잘못된 카테고리 '{}' → 기본값 '{}'으로 대체", raw, ActivityCategory.DEFAULT.getLabel());
+					return ActivityCategory.DEFAULT;
+				});
 
-				result.add(new CategorizedPage(pages.get(i), category));
+				result.add(new CategorizedPage(sessions.get(i), category));
 			}
 			return result;
 		} catch (Exception e) {
@@ -287,96 +293,139 @@ public class DailySummaryService {
 
 	/**
 	 * 방문 페이지 데이터로부터 일일 활동 통계를 계산합니다.
+	 * TimeService와 같은 집계기를 사용하며, 세션이 아니라 세션에 속한 원본 방문 구간으로 시간대를 나눕니다.
 	 */
-	private DailyActivityStats calculateStats(List<CategorizedPage> pages) {
-		int totalSeconds = 0;
-		Map<String, Integer> categoryToSeconds = new HashMap<>();
+	private ActivityAggregator calculateStats(List<CategorizedPage> pages, ZoneId zoneId) {
+		ActivityAggregator aggregator = new ActivityAggregator(zoneId);
 
 		for (CategorizedPage page : pages) {
-			int duration = page.page.getDurationSeconds();
-			totalSeconds += duration;
-			categoryToSeconds.merge(page.category, duration, Integer::sum);
+			for (VisitedPageForTimeDto visit : page.visits) {
+				aggregator.add(visit.getStartTimestamp(), visit.getDurationSeconds(), page.category);
+			}
 		}
 
-		return new DailyActivityStats(totalSeconds / 60, categoryToSeconds);
+		return aggregator;
+	}
+
+	private List<DailySummaryResult.ActivityProportion> toActivityProportions(ActivityAggregator stats) {
+		List<DailySummaryResult.ActivityProportion> list = new ArrayList<>();
+		int totalUsageMinutes = stats.getTotalMinutes();
+		if (totalUsageMinutes == 0) return list;
+
+		// 응답에 그대로 내려가는 값이라 라벨로 저장
+		stats.getCategorySeconds().forEach((category, seconds) -> {
+			int percent = (int) Math.round((seconds / 60.0) * 100 / totalUsageMinutes);
+			list.add(new DailySummaryResult.ActivityProportion(category.getLabel(), percent));
+		});
+		return list;
 	}
 
 	/**
-	 * GPT를 통해 일일 활동 요약을 생성합니다.
+	 * 시간대별 주요 활동 블록을 만들고 블록마다 가장 오래 본 제목을 대표 제목으로 붙입니다.
 	 */
-	private GptSummary fetchDailySummaryFromGPT(String date, List<CategorizedPage> pages) {
-		StringBuilder visitSummary = new StringBuilder();
+	private List<TimelineBuilder.Block> buildTimeline(List<CategorizedPage> pages, ActivityAggregator stats, ZoneId zoneId) {
+		TimelineBuilder builder = new TimelineBuilder(zoneId);
 		for (CategorizedPage cp : pages) {
-			ZonedDateTime visitTime = Instant.ofEpochMilli(cp.page.getStartTimestamp())
-				.atZone(ZoneId.of("Asia/Seoul"));
-			String timeStr = visitTime.toLocalTime().withSecond(0).withNano(0).toString(); // HH:mm
+			for (VisitedPageForTimeDto visit : cp.visits) {
+				builder.addTitle(visit.getStartTimestamp(), visit.getDurationSeconds(), cp.category, cp.page.getTitle());
+			}
+		}
+		return builder.build(stats, TIMELINE_ENTRIES);
+	}
+
+	/**
+	 * GPT 없이 키워드(로컬 추출기)와 요약 문장(통계 기반 템플릿)을 생성합니다.
+	 */
+	private SummaryContent buildLocalSummary(Long userId, LocalDate date, List<CategorizedPage> pages,
+			ActivityAggregator stats, List<TimelineBuilder.Block> timeline) {
+		List<VisitedPageDto> visitedPages = new ArrayList<>(pages.size());
+		for (CategorizedPage cp : pages) {
+			VisitedPageDto page = new VisitedPageDto();
+			page.setTitle(cp.page.getTitle());
+			page.setUrl(cp.page.getUrl());
+			page.setVisitCount(Math.max(1, cp.page.getVisitCount()));
+			page.setDuration(cp.page.getDurationSeconds());
+			visitedPages.add(page);
+		}
 
-			visitSummary.append(String.format("- 시각: %s, 제목: %s, 카테고리: %s%n", timeStr, cp.page.getTitle(), cp.category));
+		List<DailySummaryResult.TopKeyword> keywords = localKeywordExtractor.extract(userId, visitedPages)
+				.getKeywordFrequencies().stream()
+				.limit(TOP_KEYWORDS)
+				.map(k -> new DailySummaryResult.TopKeyword(k.getKeyword(), k.getFrequency()))
+				.toList();
+
+		List<String> summaryText = new ArrayList<>();
+		int totalMinutes = stats.getTotalMinutes();
+		// 지난 날짜도 요약하므로 "오늘" 대신 날짜를 명시
+		String day = "%d월 %d일".formatted(date.getMonthValue(), date.getDayOfMonth());
+		summaryText.add(totalMinutes >= 60
+				? "%s에는 총 %d시간 %d분 동안 웹 활동을 했습니다.".formatted(day, totalMinutes / 60, totalMinutes % 60)
+				: "%s에는 총 %d분 동안 웹 활동을 했습니다.".formatted(day, totalMinutes));
+
+		ActivityCategory dominant = stats.getDominantCategory();
+		if (dominant != null && stats.getTotalSeconds() > 0) {
+			long percent = Math.round(stats.getCategorySeconds().get(dominant) * 100.0 / stats.getTotalSeconds());
+			summaryText.add("가장 많은 시간을 보낸 활동은 '%s'(%d%%)입니다.".formatted(dominant.getLabel(), percent));
 		}
 
+		timeline.stream()
+				.max(Comparator.comparingInt(TimelineBuilder.Block::getMinutes))
+				.ifPresentOrElse(
+						block -> summaryText.add("%02d시부터 %02d시까지 '%s' 활동이 가장 길게 이어졌습니다."
+								.formatted(block.getStartHour(), block.getEndHour(), block.getCategory().getLabel())),
+						() -> summaryText.add("한 가지 활동이 길게 이어지기보다는 짧은 방문이 많았습니다."));
+
+		return new SummaryContent(keywords, summaryText);
+	}
+
+	/**
+	 * GPT를 통해 키워드와 요약 문장을 생성합니다.
+	 * 타임라인은 로컬에서 만들므로 프롬프트에는 제목별 사용 시간(상위 MAX_PROMPT_TITLES개)과 주요 활동 블록만 넣습니다.
+	 */
+	private SummaryContent fetchDailySummaryFromGPT(String date, List<CategorizedPage> pages,
+			List<TimelineBuilder.Block> timeline) {
+		Map<String, long[]> titleSeconds = new LinkedHashMap<>();
+		Map<String, ActivityCategory> titleCategories = new LinkedHashMap<>();
+		for (CategorizedPage cp : pages) {
+			String title = Objects.toString(cp.page.getTitle(), "").strip();
+			if (title.isEmpty()) {
+				continue;
+			}
+			titleSeconds.computeIfAbsent(title, t -> new long[1])[0] += Math.max(0, cp.page.getDurationSeconds());
+			titleCategories.putIfAbsent(title, cp.category);
+		}
+
+		StringBuilder visitSummary = new StringBuilder();
+		titleSeconds.entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed())
+				.limit(MAX_PROMPT_TITLES)
+				.forEach(e -> visitSummary.append(String.format("- %s (%s, %d분)%n",
+						e.getKey(), titleCategories.get(e.getKey()).getLabel(), e.getValue()[0] / 60)));
+
+		StringBuilder timelineSummary = new StringBuilder();
+		timeline.forEach(block -> timelineSummary.append(String.format("- %s %s%n", block.time(), block.description())));
+
 		String prompt = """
            당신은 디지털 활동 요약 전문가입니다.
-           사용자가 %s 하루 동안 다음과 같은 인터넷 방문 기록과 카테고리 정보를 보냈습니다:
+           사용자가 %s 하루 동안 방문한 페이지(사용 시간 순)와 시간대별 주요 활동입니다.
 
+           [주요 활동]
+           %s
+           [방문 페이지]
            %s
-
            위 데이터를 참고해 다음을 작성해주세요.
            1) 오늘의 키워드 상위 3개 (내림차순, { "keyword": "...", "frequency": 숫자 } JSON 배열 형식)
-           2) 시간대별 활동 타임라인 3줄 요약 (ex: "09:00 - 뉴스 읽기")
-           3) 3줄짜리 전체 활동 요약 문장 (한국어)
+           2) 3줄짜리 전체 활동 요약 문장 (한국어)
 
            JSON 형식으로 아래 필드를 포함하여 응답하세요:
            {
              "topKeywords": [ { "keyword": "...", "frequency": 숫자 }, ... ],
-             "dailyTimeline": [ { "time": "HH:mm", "description": "..." }, ... ],
              "summaryText": [ "문장1", "문장2", "문장3" ]
            }
-           """.formatted(date, visitSummary);
-
-		Map<String, Object> requestBody = Map.of(
-				"model", OPENAI_MODEL,
-				"messages", List.of(
-						Map.of("role", "system", "content", "당신은 친절한 일일 활동 요약 전문가입니다."),
-						Map.of("role", "user", "content", prompt)
-				),
-				"temperature", 0.3
-		);
+           """.formatted(date, timelineSummary, visitSummary);
 
 		try {
-			Map<String, Object> response = restTemplate.postForObject(
-					OPENAI_BASE_URL + OPENAI_URI,
-					requestBody,
-					Map.class
-			);
-
-			List<?> choices = (List<?>) response.get("choices");
-			if (choices == null || choices.isEmpty()) {
-				throw new RuntimeException("GPT 응답에 'choices' 필드가 없습니다.");
-			}
-
-			Map<String, Object> message = (Map<String, Object>) ((Map<?, ?>) choices.get(0)).get("message");
-			String content = Objects.toString(message.get("content"), "").trim();
-
-			log.debug("GPT raw content: {}", content);
-
-			// ```json ... ``` 제거
-			if (content.startsWith("```")) {
-				int start = content.indexOf("\n") + 1;
-				int end = content.lastIndexOf("```");
-				if (start > 0 && end > start) {
-					content = content.substring(start, end).trim();
-				}
-			}
-
-			// 설명문 제거: { 로 시작하지 않으면 첫 {부터 자르기
-			if (!content.startsWith("{")) {
-				int idx = content.indexOf("{");
-				if (idx != -1) {
-					content = content.substring(idx).trim();
-				}
-			}
-
-			Map<String, Object> parsed = objectMapper.readValue(content, Map.class);
+			Map<String, Object> parsed = openAiChatClient.completeObject("당신은 친절한 일일 활동 요약 전문가입니다.", prompt, 0.3);
 
 			List<DailySummaryResult.TopKeyword> keywords = ((List<Map<String, Object>>) parsed.getOrDefault("topKeywords", Collections.emptyList()))
 					.stream()
@@ -385,17 +434,9 @@ public class DailySummaryService {
 							((Number) k.getOrDefault("frequency", 0)).intValue()))
 					.collect(Collectors.toList());
 
-			List<DailySummaryResult.DailyTimelineEntry> timeline = ((List<Map<String, Object>>) parsed.getOrDefault("dailyTimeline", Collections.emptyList()))
-					.stream()
-					.map(t -> new DailySummaryResult.DailyTimelineEntry(
-							Objects.toString(t.get("time"), ""),
-							Objects.toString(t.get("description"), "")))
-					.sorted(Comparator.comparing(DailySummaryResult.DailyTimelineEntry::time)) // 시간 순 정렬
-					.collect(Collectors.toList());
-
 			List<String> summaryText = (List<String>) parsed.getOrDefault("summaryText", Collections.emptyList());
 
-			return new GptSummary(keywords, timeline, summaryText);
+			return new SummaryContent(keywords, summaryText);
 		} catch (Exception e) {
 			log.error("GPT 일일 요약 응답 파싱 실패. 원본 content: {}", e.getMessage(), e);
 			throw new RuntimeException("GPT 일일 요약 응답 파싱 실패: " + e.getMessage(), e);
@@ -405,45 +446,22 @@ public class DailySummaryService {
 	// 내부 클래스들
 	private static class CategorizedPage {
 		VisitedPageForTimeDto page;
-		String category;
+		List<VisitedPageForTimeDto> visits;
+		ActivityCategory category;
 
-		public CategorizedPage(VisitedPageForTimeDto page, String category) {
-			this.page = page;
+		public CategorizedPage(Sessionizer.Session session, ActivityCategory category) {
+			this.page = session.getPage();
+			this.visits = session.getVisits();
 			this.category = category;
 		}
 	}
 
-	private static class DailyActivityStats {
-		int totalUsageMinutes;
-		Map<String, Integer> categorySeconds;
-
-		public DailyActivityStats(int totalUsageMinutes, Map<String, Integer> categorySeconds) {
-			this.totalUsageMinutes = totalUsageMinutes;
-			this.categorySeconds = categorySeconds;
-		}
-
-		public List<DailySummaryResult.ActivityProportion> getCategoryPercentages() {
-			List<DailySummaryResult.ActivityProportion> list = new ArrayList<>();
-			if (totalUsageMinutes == 0) return list;
-
-			for (Map.Entry<String, Integer> e : categorySeconds.entrySet()) {
-				int percent = (int) Math.round((e.getValue() / 60.0) * 100 / totalUsageMinutes);
-				list.add(new DailySummaryResult.ActivityProportion(e.getKey(), percent));
-			}
-			return list;
-		}
-	}
-
-	private static class GptSummary {
+	private static class SummaryContent {
 		List<DailySummaryResult.TopKeyword> topKeywords;
-		List<DailySummaryResult.DailyTimelineEntry> dailyTimeline;
 		List<String> summaryText;
 
-		public GptSummary(List<DailySummaryResult.TopKeyword> topKeywords,
-						  List<DailySummaryResult.DailyTimelineEntry> dailyTimeline,
-						  List<String> summaryText) {
+		public SummaryContent(List<DailySummaryResult.TopKeyword> topKeywords, List<String> summaryText) {
 			this.topKeywords = topKeywords;
-			this.dailyTimeline = dailyTimeline;
 			this.summaryText = summaryText;
 		}
 	}
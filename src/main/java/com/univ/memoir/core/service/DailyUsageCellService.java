@@ -0,0 +1,196 @@
+package com.univ.memoir.core.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.api.dto.res.YearSummaryResponse;
+import com.univ.memoir.core.analysis.ActivityAggregator;
+import com.univ.memoir.core.domain.ActivityCategory;
+import com.univ.memoir.core.domain.DailySummary;
+import com.univ.memoir.core.domain.TimeAnalysisData;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.repository.DailySummaryRepository;
+import com.univ.memoir.core.repository.TimeAnalysisDataRepository;
+import com.univ.memoir.core.util.LruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연간 캘린더용 일별 셀(daily_usage_cell) 관리 및 연간 조회
+ * - 시간 분석 저장 시 총 사용 분 / 주요 카테고리 갱신, 일일 요약 저장 시 요약 여부 표시
+ * - 연간 조회는 셀 테이블 범위 조회 한 번으로 병렬 배열 응답 생성
+ * - 셀 테이블 도입 이전 기록은 (사용자, 연도)별로 프로세스당 한 번 원본 테이블에서 채움
+ */
+@Slf4j
+@Service
+public class DailyUsageCellService {
+
+    private static final int MIN_YEAR = 2000;
+    private static final int MAX_BACKFILLED_YEARS = 10_000;
+    private static final char NO_CATEGORY = '-';
+
+    private static final String UPSERT_USAGE_SQL = """
+            INSERT INTO daily_usage_cell (user_id, usage_date, total_minutes, dominant_category, has_summary)
+            VALUES (?, ?, ?, ?, false)
+            ON DUPLICATE KEY UPDATE total_minutes = VALUES(total_minutes), dominant_category = VALUES(dominant_category)
+            """;
+    // 시간 분석 값이 이미 있으면 유지하고 요약 여부만 표시 (dominant_category를 total_minutes보다 먼저 갱신)
+    private static final String UPSERT_SUMMARY_SQL = """
+            INSERT INTO daily_usage_cell (user_id, usage_date, total_minutes, dominant_category, has_summary)
+            VALUES (?, ?, ?, ?, true)
+            ON DUPLICATE KEY UPDATE
+                dominant_category = IF(total_minutes = 0, VALUES(dominant_category), dominant_category),
+                total_minutes = IF(total_minutes = 0, VALUES(total_minutes), total_minutes),
+                has_summary = true
+            """;
+    private static final String BACKFILL_SQL = """
+            INSERT IGNORE INTO daily_usage_cell (user_id, usage_date, total_minutes, dominant_category, has_summary)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_YEAR_SQL = """
+            SELECT usage_date, total_minutes, dominant_category, has_summary
+            FROM daily_usage_cell
+            WHERE user_id = ? AND usage_date BETWEEN ? AND ?
+            """;
+
+    private static final Map<String, String> CATEGORY_LABELS;
+
+    static {
+        Map<String, String> labels = new LinkedHashMap<>();
+        for (ActivityCategory category : ActivityCategory.values()) {
+            labels.put(String.valueOf(category.getCode()), category.getLabel());
+        }
+        CATEGORY_LABELS = Collections.unmodifiableMap(labels);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserService userService;
+    private final TimeAnalysisDataRepository timeAnalysisRepository;
+    private final DailySummaryRepository dailySummaryRepository;
+
+    // 이전 기록 채우기를 마친 (사용자, 연도) - 재시작 시 다시 확인 (INSERT IGNORE라 중복 실행해도 안전)
+    private final LruCache<Long, Boolean> backfilledYears;
+
+    public DailyUsageCellService(JdbcTemplate jdbcTemplate,
+                                 UserService userService,
+                                 TimeAnalysisDataRepository timeAnalysisRepository,
+                                 DailySummaryRepository dailySummaryRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userService = userService;
+        this.timeAnalysisRepository = timeAnalysisRepository;
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.backfilledYears = new LruCache<>(MAX_BACKFILLED_YEARS);
+    }
+
+    /**
+     * 시간 분석 결과로 해당 날짜 셀의 총 사용 분 / 주요 카테고리 갱신 (요약 여부는 유지)
+     */
+    @Transactional
+    public void updateUsage(Long userId, LocalDate date, ActivityAggregator aggregator) {
+        jdbcTemplate.update(UPSERT_USAGE_SQL, userId, date, aggregator.getTotalMinutes(),
+                categoryCode(aggregator.getDominantCategory()));
+    }
+
+    /**
+     * 일일 요약 저장 시 요약 여부 표시 (시간 분석 값이 없을 때만 요약 통계로 채움)
+     */
+    @Transactional
+    public void markSummary(Long userId, LocalDate date, ActivityAggregator aggregator) {
+        jdbcTemplate.update(UPSERT_SUMMARY_SQL, userId, date, aggregator.getTotalMinutes(),
+                categoryCode(aggregator.getDominantCategory()));
+    }
+
+    /**
+     * 연간 캘린더 조회 (1월 1일부터 날짜 순 병렬 배열)
+     */
+    @Transactional
+    public YearSummaryResponse.Data getYear(String email, int year) {
+        if (year < MIN_YEAR || year > Year.now().getValue() + 1) {
+            throw new IllegalArgumentException("조회 연도가 올바르지 않습니다.");
+        }
+
+        User user = userService.findByEmailForSummary(email);
+        LocalDate start = LocalDate.of(year, 1, 1);
+        LocalDate end = start.plusYears(1).minusDays(1);
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+
+        backfillIfNeeded(user, year, start, end);
+
+        int[] totalMinutes = new int[days];
+        char[] categories = new char[days];
+        char[] summaryFlags = new char[days];
+        Arrays.fill(categories, NO_CATEGORY);
+        Arrays.fill(summaryFlags, '0');
+
+        jdbcTemplate.query(SELECT_YEAR_SQL, rs -> {
+            int index = (int) ChronoUnit.DAYS.between(start, rs.getDate("usage_date").toLocalDate());
+            totalMinutes[index] = rs.getInt("total_minutes");
+            String code = rs.getString("dominant_category");
+            if (code != null && !code.isEmpty()) {
+                categories[index] = code.charAt(0);
+            }
+            if (rs.getBoolean("has_summary")) {
+                summaryFlags[index] = '1';
+            }
+        }, user.getId(), Date.valueOf(start), Date.valueOf(end));
+
+        return new YearSummaryResponse.Data(year, start.toString(), days, totalMinutes,
+                new String(categories), new String(summaryFlags), CATEGORY_LABELS);
+    }
+
+    private void backfillIfNeeded(User user, int year, LocalDate start, LocalDate end) {
+        long key = user.getId() * 10_000L + year;
+        if (backfilledYears.containsKey(key)) {
+            return;
+        }
+
+        // 날짜별 [총 사용 분, 카테고리 코드, 요약 여부] - 같은 날짜 행이 여러 개면 마지막(최신) 행 기준
+        Map<LocalDate, Object[]> cells = new TreeMap<>();
+        for (TimeAnalysisData data : timeAnalysisRepository.findAllByUserAndDateBetweenOrderByIdAsc(user, start, end)) {
+            cells.put(data.getDate(), new Object[]{data.getTotalUsageMinutes(),
+                    categoryCode(dominantCategory(data, user.zoneId())), false});
+        }
+        for (DailySummary summary : dailySummaryRepository.findAllByUserAndDateBetween(user, start, end)) {
+            Object[] cell = cells.computeIfAbsent(summary.getDate(),
+                    date -> new Object[]{summary.getTotalUsageMinutes(), null, false});
+            cell[2] = true;
+        }
+
+        if (!cells.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(cells.size());
+            cells.forEach((date, cell) -> rows.add(new Object[]{user.getId(), date, cell[0], cell[1], cell[2]}));
+            jdbcTemplate.batchUpdate(BACKFILL_SQL, rows);
+            log.info("Daily usage cells backfilled - userId: {}, year: {}, days: {}", user.getId(), year, rows.size());
+        }
+        backfilledYears.put(key, Boolean.TRUE);
+    }
+
+    private ActivityCategory dominantCategory(TimeAnalysisData data, ZoneId zoneId) {
+        if (data.getHourlyCategorySeconds() == null) {
+            return null;
+        }
+        try {
+            return ActivityAggregator.fromBytes(zoneId, data.getHourlyCategorySeconds()).getDominantCategory();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String categoryCode(ActivityCategory category) {
+        return category == null ? null : String.valueOf(category.getCode());
+    }
+}
@@ -2,8 +2,9 @@ package com.univ.memoir.core.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -12,9 +13,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -22,6 +25,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -30,10 +35,17 @@ import com.univ.memoir.api.dto.req.page.VisitedPageDto;
 import com.univ.memoir.api.dto.req.page.VisitedPagesRequest;
 import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
 import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordTopResponse;
 import com.univ.memoir.core.domain.KeywordData;
+import com.univ.memoir.core.analysis.Sessionizer;
 import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+import com.univ.memoir.core.keyword.KeywordWindow;
+import com.univ.memoir.core.keyword.LocalKeywordExtractor;
 import com.univ.memoir.core.repository.KeywordDataRepository;
 import com.univ.memoir.core.repository.UserRepository;
+import com.univ.memoir.core.repository.UserRepository.UserZoneView;
+import com.univ.memoir.core.util.UserZones;
 import com.univ.memoir.config.jwt.JwtProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -49,8 +61,8 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class KeywordService {
 
-    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
     private static final long CACHE_DURATION_MS = 2 * 60 * 60 * 1000L;
+    private static final String EXTRACTOR_LOCAL = "local";
 
     private final ObjectMapper objectMapper;
     private final RestTemplate openAiRestTemplate;
@@ -58,6 +70,14 @@ public class KeywordService {
     private final KeywordDataRepository keywordDataRepository;
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final VisitEventIngester visitEventIngester;
+    private final LocalKeywordExtractor localKeywordExtractor;
+    private final KeywordNormalizer keywordNormalizer;
+    private final KeywordTopKService keywordTopKService;
+    private final TrendingKeywordService trendingKeywordService;
+    private final SearchIndexService searchIndexService;
+    private final Sessionizer sessionizer;
+    private final ObjectProvider<CacheManager> cacheManager;
 
     @Value("${openai.api.key}")
     private String apiKey;
@@ -68,6 +88,12 @@ public class KeywordService {
     @Value("${openai.api.base-url}${openai.uri}")
     private String openaiUri;
 
+    @Value("${memoir.keyword.extractor:gpt}")
+    private String extractorType;
+
+    @Value("${memoir.keyword.local-fallback:false}")
+    private boolean localFallback;
+
     /**
      * 성능 최적화된 메모리 캐시
      */
@@ -79,22 +105,28 @@ public class KeywordService {
      */
     @Transactional
     public KeywordResponseDto analyzeKeywords(String accessToken, VisitedPagesRequest request) {
-        Long userId = extractUserIdFromToken(accessToken);
+        UserZoneView userView = extractUserFromToken(accessToken);
+        Long userId = userView.getId();
+        ZoneId zoneId = UserZones.resolve(userView.getTimeZone());
 
         List<VisitedPageDto> visitedPages = request.getVisitedPages();
         validateVisitedPages(visitedPages);
 
-        LocalDate today = LocalDate.now(KST_ZONE);
+        // 오늘 = 사용자 시간대 기준 날짜
+        LocalDate today = LocalDate.now(zoneId);
         String cacheKey = generateCacheKey(userId, today);
 
-        KeywordResponseDto cachedResult = getCachedResult(userId, today, cacheKey);
+        // 원본 방문 기록 보관 (비동기 배치 적재)
+        visitEventIngester.enqueueDailyVisits(userId, visitedPages, today, zoneId);
+
+        KeywordResponseDto cachedResult = getCachedResult(userId, today, zoneId, cacheKey);
         if (cachedResult != null) {
-            asyncCacheRefreshCheck(userId, today, visitedPages.size());
+            asyncCacheRefreshCheck(userId, today, zoneId, visitedPages.size());
             return cachedResult;
         }
 
-        log.info("Cache miss - calling OpenAI API - userId: {}", userId);
-        KeywordResponseDto result = callOpenAiApi(visitedPages);
+        // "React", "리액트", "React.js" 처럼 표기만 다른 키워드는 사전 표기로 합침
+        KeywordResponseDto result = keywordNormalizer.normalize(extractKeywords(userId, visitedPages));
 
         asyncSaveToAllCaches(cacheKey, userId, result);
 
@@ -105,46 +137,40 @@ public class KeywordService {
      * 상위 키워드 조회 - N+1 문제 해결
      */
     public List<KeywordFrequencyDto> getTopKeywordsForToday(String accessToken) {
-        // ✅ userId 직접 추출 (User 조회 안 함!)
-        Long userId = extractUserIdFromToken(accessToken);
-
-        LocalDate today = LocalDate.now(KST_ZONE);
-        String cacheKey = "top_keywords_" + userId + "_" + today;
+        // ✅ userId, 시간대만 추출 (User 엔티티 조회 안 함!)
+        UserZoneView userView = extractUserFromToken(accessToken);
+        ZoneId zoneId = UserZones.resolve(userView.getTimeZone());
 
-        // 메모리 캐시 확인
-        CachedKeywordData cached = memoryCache.get(cacheKey);
-        if (cached != null && cached.isValid()) {
-            return cached.getTopKeywords();
-        }
-
-        // ✅ userId 사용
-        List<KeywordData> todayKeywords = getTodayKeywordsFromDatabase(userId, today);
+        return keywordTopKService.top(userView.getId(), zoneId, KeywordWindow.DAY, LocalDate.now(zoneId), 9)
+                .getKeywords();
+    }
 
-        if (todayKeywords.isEmpty()) {
-            return List.of();
-        }
+    /**
+     * 날짜가 속한 일/주/월 구간 상위 키워드 (date 없으면 오늘)
+     */
+    public KeywordTopResponse getTopKeywords(String accessToken, String window, LocalDate date, int k) {
+        KeywordWindow keywordWindow = KeywordWindow.from(window);
+        UserZoneView userView = extractUserFromToken(accessToken);
+        ZoneId zoneId = UserZones.resolve(userView.getTimeZone());
 
-        // 스트림 연산 (parallelStream은 데이터 적을 때 오히려 느릴 수 있음)
-        List<KeywordFrequencyDto> topKeywords = todayKeywords.stream()
-                .collect(Collectors.groupingBy(
-                        KeywordData::getKeyword,
-                        Collectors.summingInt(KeywordData::getFrequency)))
-                .entrySet().stream()
-                .map(entry -> new KeywordFrequencyDto(entry.getKey(), entry.getValue()))
-                .sorted((a, b) -> Integer.compare(b.getFrequency(), a.getFrequency()))
-                .limit(9)
-                .collect(Collectors.toList());
+        LocalDate anchor = date != null ? date : LocalDate.now(zoneId);
+        return keywordTopKService.top(userView.getId(), zoneId, keywordWindow, anchor, k);
+    }
 
-        // 결과를 메모리 캐시에 저장
-        memoryCache.put(cacheKey, new CachedKeywordData(null, topKeywords));
+    /**
+     * 임의 기간(from, to 포함) 상위 키워드
+     */
+    public KeywordTopResponse getTopKeywordsInRange(String accessToken, LocalDate from, LocalDate to, int k) {
+        UserZoneView userView = extractUserFromToken(accessToken);
+        ZoneId zoneId = UserZones.resolve(userView.getTimeZone());
 
-        return topKeywords;
+        return keywordTopKService.topInRange(userView.getId(), zoneId, from, to, k);
     }
 
     /**
      * 통합 캐시 체크 - userId 사용
      */
-    private KeywordResponseDto getCachedResult(Long userId, LocalDate today, String cacheKey) {
+    private KeywordResponseDto getCachedResult(Long userId, LocalDate today, ZoneId zoneId, String cacheKey) {
         // 메모리 캐시 우선 확인
         CachedKeywordData memoryCached = memoryCache.get(cacheKey);
         if (memoryCached != null && memoryCached.isValid()) {
@@ -153,10 +179,10 @@ public class KeywordService {
         }
 
         // ✅ DB 캐시 확인 (userId 사용)
-        Optional<KeywordResponseDto> dbCached = getKeywordsFromDatabase(userId, today);
+        Optional<KeywordResponseDto> dbCached = getKeywordsFromDatabase(userId, today, zoneId);
         if (dbCached.isPresent()) {
             log.debug("Database cache hit - userId: {}", userId);
-            memoryCache.put(cacheKey, new CachedKeywordData(dbCached.get(), null));
+            memoryCache.put(cacheKey, new CachedKeywordData(dbCached.get()));
             return dbCached.get();
         }
 
@@ -167,9 +193,9 @@ public class KeywordService {
      * 비동기 캐시 갱신 체크 - userId 사용
      */
     @Async
-    public void asyncCacheRefreshCheck(Long userId, LocalDate date, int currentPageCount) {
+    public void asyncCacheRefreshCheck(Long userId, LocalDate date, ZoneId zoneId, int currentPageCount) {
         try {
-            List<KeywordData> existingKeywords = getTodayKeywordsFromDatabase(userId, date);
+            List<KeywordData> existingKeywords = getTodayKeywordsFromDatabase(userId, date, zoneId);
             int existingCount = existingKeywords.size();
 
             if (currentPageCount > existingCount * 1.5) {
@@ -188,7 +214,7 @@ public class KeywordService {
     public void asyncSaveToAllCaches(String cacheKey, Long userId, KeywordResponseDto result) {
         try {
             // 메모리 캐시 저장
-            memoryCache.put(cacheKey, new CachedKeywordData(result, null));
+            memoryCache.put(cacheKey, new CachedKeywordData(result));
 
             // ✅ DB 저장 (User 필요할 때만 조회)
             User user = userService.findById(userId);
@@ -215,10 +241,11 @@ public class KeywordService {
 
     /**
      * DB에서 키워드 조회 - userId 사용
+     * 날짜 구간이 시간대에 따라 달라지므로 캐시 키에 시간대 포함
      */
-    @Cacheable(value = "dailyKeywords", key = "#userId + '_' + #date")
-    public Optional<KeywordResponseDto> getKeywordsFromDatabase(Long userId, LocalDate date) {
-        List<KeywordData> todayKeywords = getTodayKeywordsFromDatabase(userId, date);
+    @Cacheable(value = "dailyKeywords", key = "#userId + '_' + #date + '_' + #zoneId.id")
+    public Optional<KeywordResponseDto> getKeywordsFromDatabase(Long userId, LocalDate date, ZoneId zoneId) {
+        List<KeywordData> todayKeywords = getTodayKeywordsFromDatabase(userId, date, zoneId);
 
         if (todayKeywords.isEmpty()) {
             return Optional.empty();
@@ -229,24 +256,55 @@ public class KeywordService {
 
     /**
      * 캐시 무효화
+     * - DB 행 삭제 후 커밋이 끝난 뒤에 캐시를 비움
+     *   (커밋 전에 비우면 그 사이 조회가 삭제 전 행으로 캐시를 다시 채울 수 있음)
      */
-    @CacheEvict(value = {"dailyKeywords", "topKeywords"}, key = "#user.id + '_' + #date")
     @Transactional
     public void invalidateCache(User user, LocalDate date) {
         Long userId = user.getId();
-        String cacheKey = generateCacheKey(userId, date);
-        String topKeywordsCacheKey = "top_keywords_" + userId + "_" + date;
-
-        // 메모리 캐시 삭제
-        memoryCache.remove(cacheKey);
-        memoryCache.remove(topKeywordsCacheKey);
+        ZoneId zoneId = user.zoneId();
 
         // ✅ DB 데이터 삭제 (userId 사용)
-        List<KeywordData> keywordsToDelete = getTodayKeywordsFromDatabase(userId, date);
+        List<KeywordData> keywordsToDelete = getTodayKeywordsFromDatabase(userId, date, zoneId);
         if (!keywordsToDelete.isEmpty()) {
             keywordDataRepository.deleteAll(keywordsToDelete);
             log.info("Cache invalidated - userId: {}, date: {}", userId, date);
         }
+
+        afterCommit(() -> evictCaches(userId, zoneId, date));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 실행 (롤백된 쓰기가 메모리 집계에 남지 않도록)
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evictCaches(Long userId, ZoneId zoneId, LocalDate date) {
+        memoryCache.remove(generateCacheKey(userId, date));
+        keywordTopKService.evict(userId, zoneId, date);
+        searchIndexService.invalidate(userId);
+
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager != null) {
+            String springCacheKey = userId + "_" + date + "_" + zoneId.getId();
+            for (String cacheName : List.of("dailyKeywords", "topKeywords")) {
+                Cache cache = manager.getCache(cacheName);
+                if (cache != null) {
+                    cache.evict(springCacheKey);
+                }
+            }
+        }
     }
 
     private void validateVisitedPages(List<VisitedPageDto> visitedPages) {
@@ -255,6 +313,32 @@ public class KeywordService {
         }
     }
 
+    /**
+     * 설정된 추출기로 키워드 추출
+     * - gpt: OpenAI 호출, 실패 시 local-fallback이 켜져 있으면 로컬 추출기로 대체
+     * - local: 네트워크 없이 로컬 추출기만 사용
+     * 두 경로 모두 같은 페이지/제목을 합친 목록을 쓰고, 합쳐진 방문 수를 빈도 가중치로 사용
+     */
+    private KeywordResponseDto extractKeywords(Long userId, List<VisitedPageDto> visitedPages) {
+        List<VisitedPageDto> collapsed = sessionizer.collapse(visitedPages);
+        if (EXTRACTOR_LOCAL.equalsIgnoreCase(extractorType)) {
+            log.info("Cache miss - local keyword extraction - userId: {}", userId);
+            return localKeywordExtractor.extract(userId, collapsed);
+        }
+
+        log.info("Cache miss - calling OpenAI API - userId: {}, pages: {} -> {}",
+                userId, visitedPages.size(), collapsed.size());
+        try {
+            return callOpenAiApi(collapsed);
+        } catch (RuntimeException e) {
+            if (!localFallback) {
+                throw e;
+            }
+            log.warn("OpenAI keyword extraction failed, falling back to local extractor - userId: {}", userId);
+            return localKeywordExtractor.extract(userId, collapsed);
+        }
+    }
+
     private KeywordResponseDto callOpenAiApi(List<VisitedPageDto> visitedPages) {
         try {
             String prompt = createPrompt(visitedPages);
@@ -302,26 +386,63 @@ public class KeywordService {
         return objectMapper.readValue(content, KeywordResponseDto.class);
     }
 
+    /**
+     * 오늘 행에 병합 저장
+     * - 같은 정규화 키의 행이 있으면 빈도만 증가, 없으면 새 행 생성
+     */
     private void saveToDatabase(User user, KeywordResponseDto dto) {
         if (dto.getKeywordFrequencies() == null || dto.getKeywordFrequencies().isEmpty()) {
             return;
         }
 
-        List<KeywordData> keywordDataList = dto.getKeywordFrequencies().stream()
-                .map(kf -> new KeywordData(user, kf.getKeyword(), kf.getFrequency()))
-                .collect(Collectors.toList());
+        ZoneId zoneId = user.zoneId();
+        LocalDate today = LocalDate.now(zoneId);
+        Map<String, KeywordData> todayRows = new HashMap<>();
+        for (KeywordData existing : getTodayKeywordsFromDatabase(user.getId(), today, zoneId)) {
+            todayRows.putIfAbsent(KeywordNormalizer.key(existing.getKeyword()), existing);
+        }
+
+        List<KeywordData> keywordDataList = new ArrayList<>();
+        int merged = 0;
+        for (KeywordFrequencyDto kf : dto.getKeywordFrequencies()) {
+            String key = KeywordNormalizer.key(kf.getKeyword());
+            if (key.isEmpty()) {
+                continue;
+            }
+
+            KeywordData keywordData = todayRows.get(key);
+            if (keywordData != null) {
+                keywordData.incrementFrequency(kf.getFrequency());
+                merged++;
+            } else {
+                keywordData = new KeywordData(user, kf.getKeyword(), kf.getFrequency());
+                todayRows.put(key, keywordData);
+            }
+            keywordDataList.add(keywordData);
+        }
 
         // Batch INSERT 활성화되어 있으면 자동으로 배치 처리됨
         keywordDataRepository.saveAll(keywordDataList);
-        log.debug("Keywords saved - userId: {}, count: {}", user.getId(), keywordDataList.size());
+        // 메모리 집계는 커밋 후 반영 (커밋 전에 반영하면 롤백 시 남고, 그 사이 DB에서 재구성한 스케치에 이중 반영됨)
+        Long userId = user.getId();
+        List<KeywordFrequencyDto> keywordFrequencies = dto.getKeywordFrequencies();
+        afterCommit(() -> {
+            keywordTopKService.record(userId, zoneId, today, keywordFrequencies);
+            trendingKeywordService.enqueue(userId, keywordFrequencies);
+            searchIndexService.indexKeywords(userId, today, keywordFrequencies);
+        });
+        log.debug("Keywords saved - userId: {}, count: {}, merged: {}", user.getId(), keywordDataList.size(), merged);
     }
 
     /**
      * ✅ N+1 문제 해결: userId만 사용
      */
-    private List<KeywordData> getTodayKeywordsFromDatabase(Long userId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
+    private List<KeywordData> getTodayKeywordsFromDatabase(Long userId, LocalDate date, ZoneId zoneId) {
+        // createdAt은 서버 기본 시간대의 LocalDateTime이므로 사용자 날짜 경계를 서버 시각으로 변환
+        ZoneId serverZone = ZoneId.systemDefault();
+        LocalDateTime startOfDay = date.atStartOfDay(zoneId).withZoneSameInstant(serverZone).toLocalDateTime();
+        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay(zoneId).withZoneSameInstant(serverZone)
+                .toLocalDateTime().minusNanos(1);
         return keywordDataRepository.findByUserIdAndCreatedAtBetween(
                 userId,  // ✅ User 객체 대신 ID만!
                 startOfDay,
@@ -344,9 +465,9 @@ public class KeywordService {
     }
 
     /**
-     * ✅ 토큰에서 userId 직접 추출 (User 조회 안 함!)
+     * ✅ 토큰에서 userId, 시간대만 추출 (User 조회 안 함!)
      */
-    private Long extractUserIdFromToken(String accessToken) {
+    private UserZoneView extractUserFromToken(String accessToken) {
         // Bearer 접두사 제거
         if (accessToken.startsWith("Bearer ")) {
             accessToken = accessToken.substring(7).trim();
@@ -354,8 +475,8 @@ public class KeywordService {
 
         String email = jwtProvider.getEmailFromToken(accessToken);
 
-        // ✅ ID만 조회! (interests/bookmarks 안 가져옴)
-        return userRepository.findIdByEmail(email)
+        // ✅ ID, 시간대만 조회! (interests/bookmarks 안 가져옴)
+        return userRepository.findZoneViewByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
@@ -370,6 +491,8 @@ public class KeywordService {
                 4. 브랜드명/서비스명 포함 (예: "GitHub", "유튜브", "스타벅스")
                 5. 일반적이고 의미없는 단어 제외 (예: "검색", "사이트", "페이지")
                 6. 의미 있고 이해 가능한 단어만 추출 (기술적 코드나 무의미한 문자열 제외)
+                7. 각 페이지의 visitCount는 중복 방문을 합친 방문 수, duration은 머문 시간(초)
+                8. frequency는 같은 키워드로 추출된 페이지들의 visitCount 합계
                 
                 **키워드 예시:**
                 "GitHub - Spring Boot 프로젝트" → "GitHub"
@@ -400,13 +523,10 @@ public class KeywordService {
     private static class CachedKeywordData {
         @Getter
         private final KeywordResponseDto keywordResponse;
-        @Getter
-        private final List<KeywordFrequencyDto> topKeywords;
         private final long cachedAt;
 
-        public CachedKeywordData(KeywordResponseDto keywordResponse, List<KeywordFrequencyDto> topKeywords) {
+        public CachedKeywordData(KeywordResponseDto keywordResponse) {
             this.keywordResponse = keywordResponse;
-            this.topKeywords = topKeywords;
             this.cachedAt = System.currentTimeMillis();
         }
 
@@ -0,0 +1,199 @@
+package com.univ.memoir.core.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordTopResponse;
+import com.univ.memoir.core.domain.KeywordData;
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+import com.univ.memoir.core.keyword.KeywordWindow;
+import com.univ.memoir.core.keyword.SpaceSavingSketch;
+import com.univ.memoir.core.repository.KeywordDataRepository;
+import com.univ.memoir.core.util.LruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 기간 상위 키워드 (Space-Saving 스케치)
+ * - 일/주/월 스케치를 메모리에 유지하고 키워드 저장 시 증분 갱신
+ * - 캐시 미스인 날짜만 한 번의 기간 조회로 DB에서 재구성, 주/월/임의 기간은 일별 스케치를 병합
+ * - 조회 비용은 스케치 크기에만 비례 (전체 기록 크기와 무관)
+ */
+@Slf4j
+@Service
+public class KeywordTopKService {
+
+    public static final int MAX_K = 50;
+    private static final int MAX_RANGE_DAYS = 92;
+
+    private final KeywordDataRepository keywordDataRepository;
+    private final KeywordNormalizer keywordNormalizer;
+    private final int capacity;
+    private final LruCache<WindowKey, SpaceSavingSketch> sketches;
+
+    public KeywordTopKService(KeywordDataRepository keywordDataRepository,
+                              KeywordNormalizer keywordNormalizer,
+                              @Value("${memoir.keyword.topk.capacity:100}") int capacity,
+                              @Value("${memoir.keyword.topk.max-windows:20000}") int maxWindows) {
+        this.keywordDataRepository = keywordDataRepository;
+        this.keywordNormalizer = keywordNormalizer;
+        this.capacity = Math.max(capacity, MAX_K);
+        this.sketches = new LruCache<>(maxWindows);
+    }
+
+    /**
+     * 저장된 키워드를 해당 날짜가 속한 일/주/월 스케치에 반영 (메모리에 있는 구간만)
+     * - 없는 구간은 다음 조회 때 DB에서 재구성되므로 여기서 만들지 않음
+     */
+    public void record(Long userId, ZoneId zoneId, LocalDate date, List<KeywordFrequencyDto> keywordFrequencies) {
+        if (keywordFrequencies == null || keywordFrequencies.isEmpty()) {
+            return;
+        }
+
+        for (KeywordWindow window : KeywordWindow.values()) {
+            SpaceSavingSketch sketch = sketches.get(new WindowKey(userId, zoneId, window, window.start(date)));
+            if (sketch == null) {
+                continue;
+            }
+            for (KeywordFrequencyDto keywordFrequency : keywordFrequencies) {
+                offer(sketch, keywordFrequency.getKeyword(), keywordFrequency.getFrequency());
+            }
+        }
+    }
+
+    /**
+     * 해당 날짜가 속한 일/주/월 구간 상위 k개
+     */
+    public KeywordTopResponse top(Long userId, ZoneId zoneId, KeywordWindow window, LocalDate date, int k) {
+        LocalDate start = window.start(date);
+        LocalDate end = window.end(date);
+        WindowKey windowKey = new WindowKey(userId, zoneId, window, start);
+
+        SpaceSavingSketch sketch = sketches.get(windowKey);
+        if (sketch == null) {
+            sketch = mergeDays(userId, zoneId, start, end);
+            SpaceSavingSketch existing = sketches.putIfAbsent(windowKey, sketch);
+            if (existing != null) {
+                sketch = existing;
+            }
+        }
+
+        return new KeywordTopResponse(window.name().toLowerCase(Locale.ROOT), start.toString(), end.toString(),
+                sketch.top(clampK(k)));
+    }
+
+    /**
+     * 임의 기간(from, to 포함) 상위 k개 - 일별 스케치 병합 결과는 캐시하지 않음
+     */
+    public KeywordTopResponse topInRange(Long userId, ZoneId zoneId, LocalDate from, LocalDate to, int k) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        SpaceSavingSketch sketch = mergeDays(userId, zoneId, from, to);
+        return new KeywordTopResponse("custom", from.toString(), to.toString(), sketch.top(clampK(k)));
+    }
+
+    /**
+     * 해당 날짜의 키워드가 삭제/교체된 경우 관련 구간 제거 (삭제 트랜잭션 커밋 후 호출)
+     */
+    public void evict(Long userId, ZoneId zoneId, LocalDate date) {
+        for (KeywordWindow window : KeywordWindow.values()) {
+            sketches.remove(new WindowKey(userId, zoneId, window, window.start(date)));
+        }
+    }
+
+    private SpaceSavingSketch mergeDays(Long userId, ZoneId zoneId, LocalDate from, LocalDate to) {
+        Map<LocalDate, SpaceSavingSketch> days = loadDays(userId, zoneId, from, to);
+        if (from.equals(to)) {
+            return days.get(from);
+        }
+
+        SpaceSavingSketch merged = new SpaceSavingSketch(capacity);
+        days.values().forEach(merged::mergeFrom);
+        return merged;
+    }
+
+    /**
+     * 기간 내 일별 스케치 확보 - 없는 날짜만 한 번의 쿼리로 읽어서 날짜별로 분배
+     */
+    private Map<LocalDate, SpaceSavingSketch> loadDays(Long userId, ZoneId zoneId, LocalDate from, LocalDate to) {
+        Map<LocalDate, SpaceSavingSketch> days = new LinkedHashMap<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            SpaceSavingSketch sketch = sketches.get(new WindowKey(userId, zoneId, KeywordWindow.DAY, date));
+            days.put(date, sketch);
+            if (sketch == null) {
+                missing.add(date);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return days;
+        }
+
+        Map<LocalDate, SpaceSavingSketch> rebuilt = new HashMap<>();
+        missing.forEach(date -> rebuilt.put(date, new SpaceSavingSketch(capacity)));
+
+        LocalDate firstMissing = missing.get(0);
+        LocalDate lastMissing = missing.get(missing.size() - 1);
+        ZoneId serverZone = ZoneId.systemDefault();
+        List<KeywordData> rows = keywordDataRepository.findByUserIdAndCreatedAtBetween(
+                userId,
+                toServerTime(firstMissing, zoneId, serverZone),
+                toServerTime(lastMissing.plusDays(1), zoneId, serverZone).minusNanos(1));
+
+        for (KeywordData row : rows) {
+            LocalDate date = row.getCreatedAt().atZone(serverZone).withZoneSameInstant(zoneId).toLocalDate();
+            SpaceSavingSketch sketch = rebuilt.get(date);
+            if (sketch != null) {
+                offer(sketch, row.getKeyword(), row.getFrequency());
+            }
+        }
+
+        for (Map.Entry<LocalDate, SpaceSavingSketch> entry : rebuilt.entrySet()) {
+            SpaceSavingSketch existing = sketches.putIfAbsent(
+                    new WindowKey(userId, zoneId, KeywordWindow.DAY, entry.getKey()), entry.getValue());
+            days.put(entry.getKey(), existing != null ? existing : entry.getValue());
+        }
+
+        log.debug("Keyword top-k days rebuilt - userId: {}, days: {}, rows: {}", userId, missing.size(), rows.size());
+        return days;
+    }
+
+    private void offer(SpaceSavingSketch sketch, String keyword, int frequency) {
+        String canonical = keywordNormalizer.canonical(keyword);
+        if (canonical != null) {
+            sketch.offer(KeywordNormalizer.key(canonical), canonical, frequency);
+        }
+    }
+
+    private static LocalDateTime toServerTime(LocalDate date, ZoneId zoneId, ZoneId serverZone) {
+        return date.atStartOfDay(zoneId).withZoneSameInstant(serverZone).toLocalDateTime();
+    }
+
+    private static int clampK(int k) {
+        return Math.max(1, Math.min(k, MAX_K));
+    }
+
+    /**
+     * 같은 날짜라도 시간대에 따라 날짜 경계(집계 대상 행)가 다르므로 시간대를 키에 포함
+     */
+    private record WindowKey(Long userId, ZoneId zoneId, KeywordWindow window, LocalDate start) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.univ.memoir.core.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * OpenAI Chat Completions 공통 호출 (요약/기간 요약에서 사용)
+ * - 시스템/사용자 메시지로 요청 본문을 만들고 choices[0].message.content만 꺼냄
+ * - JSON 객체 응답은 코드 블록/설명문을 떼고 첫 { 부터 마지막 } 까지만 파싱
+ * - 실패는 RuntimeException으로 던지고, 대체 문장 사용 여부는 호출 측에서 결정
+ */
+@Component
+public class OpenAiChatClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${openai.model}")
+    private String model;
+
+    @Value("${openai.api.base-url}")
+    private String baseUrl;
+
+    @Value("${openai.uri}")
+    private String uri;
+
+    public OpenAiChatClient(@Qualifier("openAiRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 응답 메시지 본문 (앞뒤 공백 제거)
+     */
+    @SuppressWarnings("unchecked")
+    public String complete(String systemPrompt, String userPrompt, double temperature) {
+        Map<String, Object> requestBody = Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role", "system", "content", systemPrompt),
+                        Map.of("role", "user", "content", userPrompt)
+                ),
+                "temperature", temperature
+        );
+
+        Map<String, Object> response = restTemplate.postForObject(baseUrl + uri, requestBody, Map.class);
+        List<?> choices = response == null ? null : (List<?>) response.get("choices");
+        if (choices == null || choices.isEmpty()) {
+            throw new RuntimeException("GPT 응답에 'choices' 필드가 없습니다.");
+        }
+
+        Map<String, Object> message = (Map<String, Object>) ((Map<?, ?>) choices.get(0)).get("message");
+        return Objects.toString(message.get("content"), "").trim();
+    }
+
+    /**
+     * JSON 객체로 응답하도록 요청한 경우의 파싱 결과
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> completeObject(String systemPrompt, String userPrompt, double temperature) {
+        String content = complete(systemPrompt, userPrompt, temperature);
+
+        int start = content.indexOf('{');
+        int end = content.lastIndexOf('}');
+        if (start == -1 || end <= start) {
+            throw new RuntimeException("GPT 응답에 JSON 객체가 없습니다.");
+        }
+
+        try {
+            return objectMapper.readValue(content.substring(start, end + 1), Map.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("GPT 응답 JSON 파싱 실패: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package com.univ.memoir.core.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.PeriodDigestRawResponse;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import com.univ.memoir.config.AsyncConfig;
+import com.univ.memoir.core.domain.DailySummary;
+import com.univ.memoir.core.domain.DigestPeriod;
+import com.univ.memoir.core.domain.PeriodDigest;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+import com.univ.memoir.core.repository.DailySummaryRepository;
+import com.univ.memoir.core.repository.PeriodDigestRepository;
+import com.univ.memoir.core.service.DailySummaryService.DailySummaryResult;
+
+/**
+ * 주간/월간 요약 생성
+ * - 주간: 저장된 일별 요약(요약 문장, 키워드, 활동 비율)만으로 생성
+ * - 월간: 해당 월에 걸친 주간 요약 문장으로 생성 (수치는 월 안의 일별 요약으로 정확히 계산)
+ * - 단계마다 하위 요약 해시(fingerprint)로 캐시해서 바뀐 주/월만 다시 생성
+ * - GPT 입력은 방문 기록이 아니라 짧은 요약 문장들이라 월간도 수십 줄 이내
+ * - 월간 조회에서 다시 만들 주간 요약은 llmExecutor에서 동시에 생성 (실행기가 가득 차면 요청 스레드에서 생성)
+ */
+@Service
+public class PeriodDigestService {
+
+	private static final Logger log = LoggerFactory.getLogger(PeriodDigestService.class);
+
+	private static final int TOP_KEYWORD_LIMIT = 5;
+	private static final int SUMMARY_LINES = 3;
+
+	private final OpenAiChatClient openAiChatClient;
+	private final Executor llmExecutor;
+	private final ObjectMapper objectMapper;
+	private final DailySummaryRepository dailySummaryRepository;
+	private final PeriodDigestRepository periodDigestRepository;
+	private final UserService userService;
+	private final KeywordNormalizer keywordNormalizer;
+
+	public PeriodDigestService(
+			OpenAiChatClient openAiChatClient,
+			@Qualifier(AsyncConfig.LLM_EXECUTOR) Executor llmExecutor,
+			ObjectMapper objectMapper,
+			DailySummaryRepository dailySummaryRepository,
+			PeriodDigestRepository periodDigestRepository,
+			UserService userService,
+			KeywordNormalizer keywordNormalizer
+	) {
+		this.openAiChatClient = openAiChatClient;
+		this.llmExecutor = llmExecutor;
+		this.objectMapper = objectMapper;
+		this.dailySummaryRepository = dailySummaryRepository;
+		this.periodDigestRepository = periodDigestRepository;
+		this.userService = userService;
+		this.keywordNormalizer = keywordNormalizer;
+	}
+
+	/**
+	 * 날짜가 속한 주(월요일 시작)의 요약
+	 *
+	 * @param email 사용자 이메일 (SecurityContext에서 추출)
+	 * @param date 주에 포함된 아무 날짜
+	 */
+	public PeriodDigestRawResponse.Data getWeekDigest(String email, LocalDate date) {
+		User user = findUser(email);
+
+		LocalDate start = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		LocalDate end = start.plusDays(6);
+
+		Map<LocalDate, DailySummary> days = latestByDate(dailySummaryRepository.findAllByUserAndDateBetween(user, start, end));
+		PeriodDigest stored = periodDigestRepository.findByUserAndPeriodTypeAndPeriodStart(user, DigestPeriod.WEEK, start)
+				.orElse(null);
+
+		return toResponse(DigestPeriod.WEEK, start, end, join(refreshWeek(user, start, days, stored, Runnable::run)));
+	}
+
+	/**
+	 * 월 요약 - 월에 걸친 주간 요약을 먼저 갱신한 뒤 주간 요약 문장으로 생성
+	 *
+	 * @param email 사용자 이메일 (SecurityContext에서 추출)
+	 * @param yearMonth 조회할 년월
+	 */
+	public PeriodDigestRawResponse.Data getMonthDigest(String email, YearMonth yearMonth) {
+		User user = findUser(email);
+
+		LocalDate monthStart = yearMonth.atDay(1);
+		LocalDate monthEnd = yearMonth.atEndOfMonth();
+		LocalDate firstMonday = monthStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		LocalDate lastSunday = monthEnd.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+
+		// 월에 걸친 주 전체를 한 번에 조회해서 주별로 나눔
+		TreeMap<LocalDate, DailySummary> days = latestByDate(
+				dailySummaryRepository.findAllByUserAndDateBetween(user, firstMonday, lastSunday));
+		Map<LocalDate, PeriodDigest> storedWeeks = periodDigestRepository
+				.findAllByUserAndPeriodTypeAndPeriodStartBetween(user, DigestPeriod.WEEK, firstMonday, lastSunday)
+				.stream()
+				.collect(Collectors.toMap(PeriodDigest::getPeriodStart, Function.identity(), (a, b) -> a));
+
+		// 바뀐 주만 llmExecutor로 넘겨 동시에 생성하고, 주 순서대로 모음
+		List<CompletableFuture<PeriodDigest>> pendingWeeks = new ArrayList<>();
+		for (LocalDate monday = firstMonday; !monday.isAfter(monthEnd); monday = monday.plusWeeks(1)) {
+			Map<LocalDate, DailySummary> weekDays = days.subMap(monday, true, monday.plusDays(6), true);
+			pendingWeeks.add(refreshWeek(user, monday, weekDays, storedWeeks.get(monday), llmExecutor));
+		}
+		List<PeriodDigest> weeks = new ArrayList<>();
+		for (CompletableFuture<PeriodDigest> pendingWeek : pendingWeeks) {
+			PeriodDigest week = join(pendingWeek);
+			if (week != null) {
+				weeks.add(week);
+			}
+		}
+
+		Map<LocalDate, DailySummary> monthDays = days.subMap(monthStart, true, monthEnd, true);
+		if (monthDays.isEmpty()) {
+			return PeriodDigestRawResponse.empty("month", monthStart.toString(), monthEnd.toString());
+		}
+
+		PeriodDigest stored = periodDigestRepository.findByUserAndPeriodTypeAndPeriodStart(user, DigestPeriod.MONTH, monthStart)
+				.orElse(null);
+		String fingerprint = fingerprint(weeks.stream()
+				.map(week -> week.getPeriodStart() + ":" + week.getFingerprint())
+				.toList());
+		if (stored != null && fingerprint.equals(stored.getFingerprint())) {
+			return toResponse(DigestPeriod.MONTH, monthStart, monthEnd, stored);
+		}
+
+		List<String> lines = new ArrayList<>();
+		List<String> fallback = new ArrayList<>();
+		for (PeriodDigest week : weeks) {
+			List<String> sentences = parseStringList(week.getSummaryTextJson());
+			lines.add("- %s ~ %s (%d분, 키워드: %s): %s".formatted(week.getPeriodStart(), week.getPeriodEnd(),
+					week.getTotalUsageMinutes(), keywordLabels(week.getTopKeywordsJson()), String.join(" ", sentences)));
+			if (!sentences.isEmpty()) {
+				fallback.add(sentences.get(0));
+			}
+		}
+
+		String periodLabel = "%d년 %d월".formatted(yearMonth.getYear(), yearMonth.getMonthValue());
+		PeriodDigest month = stored != null ? stored : new PeriodDigest(user, DigestPeriod.MONTH, monthStart, monthEnd);
+		return toResponse(DigestPeriod.MONTH, monthStart, monthEnd,
+				build(month, fingerprint, monthDays.values(), periodLabel, "주간 요약", lines, fallback));
+	}
+
+	/**
+	 * 주간 요약 갱신 - 일별 요약이 바뀌지 않았으면 저장된 값 사용, 바뀌었으면 executor에서 다시 생성
+	 *
+	 * @param executor GPT 호출을 실행할 실행기 (Runnable::run이면 호출 스레드)
+	 * @return 일별 요약이 하나도 없으면 null을 담은 future
+	 */
+	private CompletableFuture<PeriodDigest> refreshWeek(User user, LocalDate start, Map<LocalDate, DailySummary> days,
+														PeriodDigest stored, Executor executor) {
+		if (days.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		String fingerprint = fingerprint(days.values().stream()
+				.map(day -> String.join("\u0000", day.getDate().toString(),
+						Objects.toString(day.getSummaryTextJson(), ""),
+						Objects.toString(day.getTopKeywordsJson(), ""),
+						Objects.toString(day.getActivityProportionsJson(), ""),
+						String.valueOf(day.getTotalUsageMinutes())))
+				.toList());
+		if (stored != null && fingerprint.equals(stored.getFingerprint())) {
+			return CompletableFuture.completedFuture(stored);
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(() -> buildWeek(user, start, days, stored, fingerprint), executor);
+		} catch (RejectedExecutionException e) {
+			log.warn("LLM 실행기 포화 - 주간 요약을 요청 스레드에서 생성 - userId: {}, week: {}", user.getId(), start);
+			return CompletableFuture.completedFuture(buildWeek(user, start, days, stored, fingerprint));
+		}
+	}
+
+	private PeriodDigest buildWeek(User user, LocalDate start, Map<LocalDate, DailySummary> days,
+								   PeriodDigest stored, String fingerprint) {
+		List<String> lines = new ArrayList<>();
+		List<String> fallback = new ArrayList<>();
+		for (DailySummary day : days.values()) {
+			List<String> sentences = parseStringList(day.getSummaryTextJson());
+			lines.add("- %s (%d분, 키워드: %s): %s".formatted(day.getDate(), day.getTotalUsageMinutes(),
+					keywordLabels(day.getTopKeywordsJson()), String.join(" ", sentences)));
+			if (!sentences.isEmpty() && fallback.size() < SUMMARY_LINES) {
+				fallback.add(sentences.get(0));
+			}
+		}
+
+		LocalDate end = start.plusDays(6);
+		String periodLabel = "%s ~ %s 한 주".formatted(start, end);
+		PeriodDigest week = stored != null ? stored : new PeriodDigest(user, DigestPeriod.WEEK, start, end);
+		return build(week, fingerprint, days.values(), periodLabel, "일별 요약", lines, fallback);
+	}
+
+	/**
+	 * 수치 집계 + GPT 요약 문장 생성 후 저장
+	 * - GPT 실패 시 하위 요약 첫 문장으로 대체하고 저장하지 않음 (다음 조회에서 다시 시도)
+	 */
+	private PeriodDigest build(PeriodDigest digest, String fingerprint, Collection<DailySummary> days,
+							   String periodLabel, String sourceLabel, List<String> lines, List<String> fallback) {
+		int totalMinutes = days.stream().mapToInt(DailySummary::getTotalUsageMinutes).sum();
+
+		List<String> summaryText = fetchDigestFromGPT(periodLabel, sourceLabel, lines);
+		boolean generated = summaryText != null;
+		if (!generated) {
+			summaryText = fallback.size() > SUMMARY_LINES ? fallback.subList(0, SUMMARY_LINES) : fallback;
+		}
+
+		try {
+			// 대체 문장으로 만든 요약은 fingerprint를 비워서 상위(월간) 캐시도 다음에 다시 생성되도록 함
+			digest.update(
+					generated ? fingerprint : "",
+					days.size(),
+					totalMinutes,
+					objectMapper.writeValueAsString(mergeKeywords(days)),
+					objectMapper.writeValueAsString(summaryText),
+					objectMapper.writeValueAsString(mergeProportions(days, totalMinutes))
+			);
+		} catch (JsonProcessingException e) {
+			log.error("기간 요약 JSON 직렬화 실패", e);
+			throw new RuntimeException("기간 요약 JSON 직렬화 실패", e);
+		}
+
+		if (generated) {
+			try {
+				return periodDigestRepository.save(digest);
+			} catch (DataIntegrityViolationException e) {
+				// 동시에 같은 기간을 생성한 경우 - 이번 결과만 응답하고 저장은 먼저 끝난 쪽을 유지
+				log.warn("기간 요약 동시 저장 충돌 - userId: {}, period: {} {}",
+						digest.getUser().getId(), digest.getPeriodType(), digest.getPeriodStart());
+			}
+		}
+		return digest;
+	}
+
+	/**
+	 * 일별 상위 키워드를 정규화 키 기준으로 합산
+	 */
+	private List<KeywordFrequencyDto> mergeKeywords(Collection<DailySummary> days) {
+		Map<String, KeywordFrequencyDto> merged = new LinkedHashMap<>();
+		for (DailySummary day : days) {
+			for (DailySummaryResult.TopKeyword keyword : parseList(day.getTopKeywordsJson(),
+					new TypeReference<List<DailySummaryResult.TopKeyword>>() {})) {
+				String canonical = keywordNormalizer.canonical(keyword.keyword());
+				if (canonical == null) {
+					continue;
+				}
+				merged.merge(KeywordNormalizer.key(canonical), new KeywordFrequencyDto(canonical, keyword.frequency()),
+						(a, b) -> new KeywordFrequencyDto(a.getKeyword(), a.getFrequency() + b.getFrequency()));
+			}
+		}
+
+		return merged.values().stream()
+				.sorted((a, b) -> Integer.compare(b.getFrequency(), a.getFrequency()))
+				.limit(TOP_KEYWORD_LIMIT)
+				.toList();
+	}
+
+	/**
+	 * 일별 활동 비율을 그날 사용 시간으로 가중 평균
+	 */
+	private List<DailySummaryResult.ActivityProportion> mergeProportions(Collection<DailySummary> days, int totalMinutes) {
+		List<DailySummaryResult.ActivityProportion> result = new ArrayList<>();
+		if (totalMinutes == 0) {
+			return result;
+		}
+
+		Map<String, Double> categoryMinutes = new LinkedHashMap<>();
+		for (DailySummary day : days) {
+			for (DailySummaryResult.ActivityProportion proportion : parseList(day.getActivityProportionsJson(),
+					new TypeReference<List<DailySummaryResult.ActivityProportion>>() {})) {
+				categoryMinutes.merge(proportion.category(),
+						proportion.percentage() * day.getTotalUsageMinutes() / 100.0, Double::sum);
+			}
+		}
+
+		categoryMinutes.forEach((category, minutes) ->
+				result.add(new DailySummaryResult.ActivityProportion(category, (int) Math.round(minutes * 100 / totalMinutes))));
+		result.sort((a, b) -> Integer.compare(b.percentage(), a.percentage()));
+		return result;
+	}
+
+	/**
+	 * GPT로 기간 요약 문장 생성
+	 *
+	 * @return 실패 시 null
+	 */
+	private List<String> fetchDigestFromGPT(String periodLabel, String sourceLabel, List<String> lines) {
+		String prompt = """
+           당신은 디지털 활동 요약 전문가입니다.
+           다음은 사용자의 %s 동안의 %s입니다:
+
+           %s
+
+           위 요약들을 바탕으로 기간 전체의 흐름을 3줄짜리 한국어 문장으로 요약해주세요.
+           반복되는 관심사와 달라진 점을 중심으로 작성하세요.
+
+           JSON 형식으로만 응답하세요:
+           { "summaryText": [ "문장1", "문장2", "문장3" ] }
+           """.formatted(periodLabel, sourceLabel, String.join("\n", lines));
+
+		try {
+			Map<String, Object> parsed = openAiChatClient.completeObject("당신은 친절한 기간 활동 요약 전문가입니다.", prompt, 0.3);
+			List<String> summaryText = ((List<?>) parsed.getOrDefault("summaryText", List.of())).stream()
+					.map(Object::toString)
+					.limit(SUMMARY_LINES)
+					.toList();
+			return summaryText.isEmpty() ? null : summaryText;
+		} catch (Exception e) {
+			log.warn("GPT 기간 요약 생성 실패 - {}: {}", periodLabel, e.getMessage());
+			return null;
+		}
+	}
+
+	private PeriodDigestRawResponse.Data toResponse(DigestPeriod period, LocalDate start, LocalDate end, PeriodDigest digest) {
+		String periodName = period.name().toLowerCase(Locale.ROOT);
+		if (digest == null) {
+			return PeriodDigestRawResponse.empty(periodName, start.toString(), end.toString());
+		}
+		return PeriodDigestRawResponse.of(
+				periodName,
+				start.toString(),
+				end.toString(),
+				digest.getDayCount(),
+				digest.getTopKeywordsJson(),
+				digest.getSummaryTextJson(),
+				digest.getTotalUsageMinutes(),
+				digest.getActivityProportionsJson()
+		);
+	}
+
+	/**
+	 * 주간 요약 future 결과 (작업 중 던진 예외는 감싸지 않고 그대로 전달)
+	 */
+	private static PeriodDigest join(CompletableFuture<PeriodDigest> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private User findUser(String email) {
+		User user = userService.findByEmailForSummary(email);
+		if (user == null) {
+			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
+		}
+		return user;
+	}
+
+	/**
+	 * 같은 날짜에 요약이 여러 번 저장된 경우 가장 최근 것만 사용 (날짜순)
+	 */
+	private static TreeMap<LocalDate, DailySummary> latestByDate(List<DailySummary> summaries) {
+		TreeMap<LocalDate, DailySummary> result = new TreeMap<>();
+		for (DailySummary summary : summaries) {
+			result.merge(summary.getDate(), summary, (a, b) -> a.getId() >= b.getId() ? a : b);
+		}
+		return result;
+	}
+
+	private String keywordLabels(String topKeywordsJson) {
+		return parseList(topKeywordsJson, new TypeReference<List<DailySummaryResult.TopKeyword>>() {}).stream()
+				.map(DailySummaryResult.TopKeyword::keyword)
+				.limit(TOP_KEYWORD_LIMIT)
+				.collect(Collectors.joining(", "));
+	}
+
+	private List<String> parseStringList(String json) {
+		return parseList(json, new TypeReference<List<String>>() {});
+	}
+
+	private <T> List<T> parseList(String json, TypeReference<List<T>> type) {
+		if (json == null || json.isBlank()) {
+			return List.of();
+		}
+		try {
+			List<T> parsed = objectMapper.readValue(json, type);
+			return parsed == null ? List.of() : parsed;
+		} catch (JsonProcessingException e) {
+			log.debug("저장된 요약 JSON 파싱 실패 - 건너뜀: {}", e.getMessage());
+			return List.of();
+		}
+	}
+
+	private static String fingerprint(List<String> parts) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String part : parts) {
+				digest.update(part.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
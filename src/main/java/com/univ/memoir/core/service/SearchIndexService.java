@@ -0,0 +1,258 @@
+package com.univ.memoir.core.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.search.SearchResponse;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import com.univ.memoir.core.domain.DailySummary;
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+import com.univ.memoir.core.repository.DailySummaryRepository;
+import com.univ.memoir.core.repository.KeywordDataRepository;
+import com.univ.memoir.core.repository.KeywordDataRepository.KeywordView;
+import com.univ.memoir.core.repository.UserRepository;
+import com.univ.memoir.core.repository.UserRepository.UserZoneView;
+import com.univ.memoir.core.repository.VisitEventRepository;
+import com.univ.memoir.core.repository.VisitEventRepository.TitleView;
+import com.univ.memoir.core.search.SearchAnalyzer;
+import com.univ.memoir.core.search.UserSearchIndex;
+import com.univ.memoir.core.service.DailySummaryService.DailySummaryResult;
+import com.univ.memoir.core.util.LruCache;
+import com.univ.memoir.core.util.UserZones;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 기록 검색 (요약 문장, 키워드, 페이지 제목)
+ * - 사용자 색인은 첫 검색 때 DB에서 한 번 만들고, 이후 쓰기 경로에서 증분 반영
+ * - 메모리에 없는 사용자의 쓰기는 무시 (다음 검색 때 DB에서 다시 만들어짐)
+ * - 색인 수는 LRU로 제한, 사용자 시간대가 바뀌면 날짜 경계가 달라지므로 새로 만듦
+ * - 요약을 다시 만들면 그 날짜의 요약 문서만 교체, 키워드 행 삭제는 색인을 버리고 다음 검색 때 다시 만듦
+ * - 방문 제목은 제목 × 날짜 단위로 묶어서 최근 것부터 max-titles개까지만 적재
+ *
+ * 색인은 이 인스턴스 메모리에만 있으므로 단일 인스턴스 배포를 전제로 함
+ * (여러 인스턴스로 늘리면 다른 인스턴스의 쓰기가 반영되지 않으므로 공유 검색 저장소로 옮겨야 함)
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final SearchAnalyzer analyzer;
+    private final DailySummaryRepository dailySummaryRepository;
+    private final KeywordDataRepository keywordDataRepository;
+    private final VisitEventRepository visitEventRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxTitles;
+    private final LruCache<Long, IndexEntry> indexes;
+
+    public SearchIndexService(SearchAnalyzer analyzer,
+                              DailySummaryRepository dailySummaryRepository,
+                              KeywordDataRepository keywordDataRepository,
+                              VisitEventRepository visitEventRepository,
+                              UserRepository userRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${memoir.search.max-users:500}") int maxUsers,
+                              @Value("${memoir.search.max-titles:20000}") int maxTitles) {
+        this.analyzer = analyzer;
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.keywordDataRepository = keywordDataRepository;
+        this.visitEventRepository = visitEventRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.maxTitles = maxTitles;
+        this.indexes = new LruCache<>(maxUsers);
+    }
+
+    /**
+     * 검색어와 관련된 날짜를 관련도 순으로 조회
+     */
+    public SearchResponse search(String email, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 최대 " + MAX_QUERY_LENGTH + "자입니다.");
+        }
+
+        UserZoneView userView = userRepository.findZoneViewByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
+        UserSearchIndex index = indexFor(userView.getId(), UserZones.resolve(userView.getTimeZone()));
+
+        List<SearchResponse.Hit> hits = index.search(analyzer.terms(query), Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(hit -> new SearchResponse.Hit(hit.date().toString(),
+                        Math.round(hit.score() * 1000) / 1000.0, hit.snippet()))
+                .toList();
+
+        return new SearchResponse(query, hits);
+    }
+
+    /**
+     * 일일 요약 저장 후 반영 (같은 날짜의 이전 요약 문장과 요약 키워드는 교체)
+     */
+    public void indexSummary(Long userId, LocalDate date, List<String> summaryText, List<String> keywords) {
+        IndexEntry entry = indexes.get(userId);
+        if (entry == null) {
+            return;
+        }
+        applySummary(entry.index(), date, summaryText, keywords, true);
+    }
+
+    /**
+     * 키워드 저장 후 반영
+     */
+    public void indexKeywords(Long userId, LocalDate date, List<KeywordFrequencyDto> keywordFrequencies) {
+        IndexEntry entry = indexes.get(userId);
+        if (entry == null || keywordFrequencies == null) {
+            return;
+        }
+        keywordFrequencies.forEach(keywordFrequency -> applyKeyword(entry.index(), date, keywordFrequency.getKeyword()));
+    }
+
+    /**
+     * 방문 기록 적재 후 반영 (날짜는 색인의 시간대 기준)
+     */
+    public void indexTitle(Long userId, String title, long startTimestamp) {
+        IndexEntry entry = indexes.get(userId);
+        if (entry == null || title == null || title.isBlank()) {
+            return;
+        }
+        applyTitle(entry.index(), title, startTimestamp);
+    }
+
+    /**
+     * 기록이 삭제된 경우 색인 제거 (다음 검색 때 DB에서 다시 만들어짐)
+     */
+    public void invalidate(Long userId) {
+        indexes.remove(userId);
+    }
+
+    private UserSearchIndex indexFor(Long userId, ZoneId zoneId) {
+        boolean[] created = {false};
+        IndexEntry entry = indexes.compute(userId, (id, existing) -> {
+            if (existing != null && existing.index().getZoneId().equals(zoneId)) {
+                return existing;
+            }
+            created[0] = true;
+            return new IndexEntry(new UserSearchIndex(zoneId), new CompletableFuture<>());
+        });
+        boolean owner = created[0];
+
+        if (!owner) {
+            // 다른 요청이 만드는 중이면 끝날 때까지 대기
+            entry.loaded().join();
+            return entry.index();
+        }
+
+        try {
+            load(userId, entry.index());
+            entry.loaded().complete(null);
+        } catch (RuntimeException e) {
+            indexes.remove(userId, entry);
+            entry.loaded().completeExceptionally(e);
+            throw e;
+        }
+        return entry.index();
+    }
+
+    /**
+     * DB 기록으로 색인 생성
+     * - 색인을 먼저 등록한 뒤 적재하므로 그 사이의 쓰기도 반영됨
+     * - 요약은 최신 행부터 적재하고 이미 있는 날짜는 건너뜀
+     */
+    private void load(Long userId, UserSearchIndex index) {
+        long startedAt = System.nanoTime();
+        ZoneId serverZone = ZoneId.systemDefault();
+
+        List<DailySummary> summaries = dailySummaryRepository.findAllByUserIdOrderByIdDesc(userId);
+        for (DailySummary summary : summaries) {
+            List<String> summaryText = parseList(summary.getSummaryTextJson(), new TypeReference<List<String>>() {});
+            List<String> keywords = parseList(summary.getTopKeywordsJson(),
+                    new TypeReference<List<DailySummaryResult.TopKeyword>>() {}).stream()
+                    .map(DailySummaryResult.TopKeyword::keyword)
+                    .toList();
+            applySummary(index, summary.getDate(), summaryText, keywords, false);
+        }
+
+        List<KeywordView> keywords = keywordDataRepository.findKeywordViewsByUserId(userId);
+        for (KeywordView keyword : keywords) {
+            LocalDate date = keyword.getCreatedAt().atZone(serverZone).withZoneSameInstant(index.getZoneId()).toLocalDate();
+            applyKeyword(index, date, keyword.getKeyword());
+        }
+
+        // 날짜 묶음은 현재 오프셋 기준 (서머타임 전환일 경계의 한 시간만 어긋나고, 실제 날짜는 묶음의 첫 방문 시각으로 계산)
+        long offsetMillis = index.getZoneId().getRules().getOffset(Instant.now()).getTotalSeconds() * 1000L;
+        List<TitleView> titles = visitEventRepository.findDailyTitleViewsByUserId(
+                userId, offsetMillis, PageRequest.of(0, maxTitles));
+        for (TitleView title : titles) {
+            applyTitle(index, title.getTitle(), title.getStartTimestamp());
+        }
+
+        log.info("Search index built - userId: {}, days: {}, summaries: {}, keywords: {}, titles: {}, elapsedMs: {}",
+                userId, index.documentCount(), summaries.size(), keywords.size(), titles.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void applySummary(UserSearchIndex index, LocalDate date, List<String> summaryText, List<String> keywords,
+                              boolean replace) {
+        // 분석은 색인 락 밖에서 수행
+        Map<String, List<String>> keywordTerms = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            String key = KeywordNormalizer.key(keyword);
+            if (!key.isEmpty()) {
+                keywordTerms.putIfAbsent(key, analyzer.analyze(keyword));
+            }
+        }
+        boolean hasText = summaryText != null && !summaryText.isEmpty();
+        index.putSummary(date,
+                hasText ? analyzer.analyze(String.join(" ", summaryText)) : List.of(),
+                keywordTerms,
+                hasText ? summaryText.get(0) : null,
+                replace);
+    }
+
+    private void applyKeyword(UserSearchIndex index, LocalDate date, String keyword) {
+        String key = KeywordNormalizer.key(keyword);
+        if (!key.isEmpty()) {
+            index.addKeyword(date, key, analyzer.analyze(keyword));
+        }
+    }
+
+    private void applyTitle(UserSearchIndex index, String title, long startTimestamp) {
+        LocalDate date = Instant.ofEpochMilli(startTimestamp).atZone(index.getZoneId()).toLocalDate();
+        index.addTitle(date, title, analyzer.analyze(title));
+    }
+
+    private <T> List<T> parseList(String json, TypeReference<List<T>> type) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            List<T> parsed = objectMapper.readValue(json, type);
+            return parsed == null ? List.of() : parsed;
+        } catch (JsonProcessingException e) {
+            log.debug("Stored summary JSON parse failed - skipped: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private record IndexEntry(UserSearchIndex index, CompletableFuture<Void> loaded) {}
+}
@@ -0,0 +1,292 @@
+package com.univ.memoir.core.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.dto.res.SimilarDaysResponse;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import com.univ.memoir.core.domain.DailySummary;
+import com.univ.memoir.core.domain.KeywordData;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+import com.univ.memoir.core.keyword.MinHashSignature;
+import com.univ.memoir.core.repository.DailySummaryRepository;
+import com.univ.memoir.core.repository.KeywordDataRepository;
+import com.univ.memoir.core.service.DailySummaryService.DailySummaryResult;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 비슷한 날 찾기 (키워드 집합 MinHash + LSH)
+ * - 요약 저장 시 그날 키워드 집합(요약 상위 키워드 + 오늘의 키워드)의 서명을 계산해서 함께 저장
+ * - 서명을 밴드로 나눈 버킷을 daily_summary_lsh에 기록, 조회 시 버킷을 공유하는 날짜만 후보로 비교
+ * - 서명이 없는 과거 요약은 조회 때 조금씩 채움 (키워드 조회/서명 갱신/버킷 교체 모두 배치 쿼리)
+ */
+@Service
+public class SimilarDayService {
+
+	private static final Logger log = LoggerFactory.getLogger(SimilarDayService.class);
+
+	private static final int MAX_LIMIT = 20;
+	// 키워드가 없는 날도 다시 채우지 않도록 빈 서명으로 표시
+	private static final byte[] EMPTY_SIGNATURE = new byte[0];
+
+	private static final String DELETE_DATE_SQL =
+			"DELETE FROM daily_summary_lsh WHERE user_id = ? AND summary_date = ?";
+	private static final String INSERT_BUCKET_SQL =
+			"INSERT INTO daily_summary_lsh (user_id, summary_date, bucket) VALUES (?, ?, ?)";
+	private static final String UPDATE_SIGNATURE_SQL =
+			"UPDATE daily_summary SET keyword_signature = ? WHERE id = ?";
+	private static final String SELECT_CANDIDATES_SQL =
+			"SELECT DISTINCT summary_date FROM daily_summary_lsh WHERE user_id = ? AND bucket IN (%s) AND summary_date <> ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final DailySummaryRepository dailySummaryRepository;
+	private final KeywordDataRepository keywordDataRepository;
+	private final UserService userService;
+	private final KeywordNormalizer keywordNormalizer;
+
+	public SimilarDayService(
+			JdbcTemplate jdbcTemplate,
+			ObjectMapper objectMapper,
+			DailySummaryRepository dailySummaryRepository,
+			KeywordDataRepository keywordDataRepository,
+			UserService userService,
+			KeywordNormalizer keywordNormalizer
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.dailySummaryRepository = dailySummaryRepository;
+		this.keywordDataRepository = keywordDataRepository;
+		this.userService = userService;
+		this.keywordNormalizer = keywordNormalizer;
+	}
+
+	/**
+	 * 그날 키워드 집합의 서명 계산 (키워드가 없으면 빈 배열)
+	 */
+	public byte[] signature(Long userId, LocalDate date, ZoneId zoneId, String topKeywordsJson) {
+		List<String> dayKeywords = keywordsByDate(userId, date, date, zoneId).getOrDefault(date, List.of());
+		return signature(topKeywordsJson, dayKeywords);
+	}
+
+	/**
+	 * 날짜의 LSH 버킷 교체 (서명이 비어 있으면 삭제만)
+	 */
+	public void replaceBuckets(Long userId, LocalDate date, byte[] keywordSignature) {
+		replaceBuckets(userId, Map.of(date, keywordSignature));
+	}
+
+	/**
+	 * 여러 날짜의 LSH 버킷 교체 (삭제 한 번 + 삽입 한 번의 배치)
+	 */
+	private void replaceBuckets(Long userId, Map<LocalDate, byte[]> signatures) {
+		List<Object[]> deleteRows = new ArrayList<>(signatures.size());
+		List<Object[]> insertRows = new ArrayList<>(signatures.size() * MinHashSignature.BANDS);
+		signatures.forEach((date, keywordSignature) -> {
+			deleteRows.add(new Object[]{userId, date});
+			int[] signature = MinHashSignature.fromBytes(keywordSignature);
+			if (signature == null) {
+				return;
+			}
+			for (long bucket : MinHashSignature.bandBuckets(signature)) {
+				insertRows.add(new Object[]{userId, date, bucket});
+			}
+		});
+		jdbcTemplate.batchUpdate(DELETE_DATE_SQL, deleteRows);
+		if (!insertRows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_BUCKET_SQL, insertRows);
+		}
+	}
+
+	/**
+	 * 해당 날짜와 키워드가 비슷한 날 (유사도 내림차순)
+	 *
+	 * @param email 사용자 이메일 (SecurityContext에서 추출)
+	 * @param date 기준 날짜
+	 * @param limit 최대 개수
+	 */
+	public SimilarDaysResponse.Data findSimilarDays(String email, LocalDate date, int limit) {
+		User user = userService.findByEmailForSummary(email);
+
+		if (user == null) {
+			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
+		}
+
+		backfill(user);
+
+		DailySummary target = latestByDate(dailySummaryRepository.findAllByUserAndDateIn(user, List.of(date))).get(date);
+		if (target == null) {
+			throw new EntityNotFoundException("해당 날짜의 요약이 존재하지 않습니다.");
+		}
+
+		int[] signature = MinHashSignature.fromBytes(target.getKeywordSignature());
+		if (signature == null) {
+			return new SimilarDaysResponse.Data(date.toString(), List.of());
+		}
+
+		long[] buckets = MinHashSignature.bandBuckets(signature);
+		List<Object> args = new ArrayList<>(buckets.length + 2);
+		args.add(user.getId());
+		for (long bucket : buckets) {
+			args.add(bucket);
+		}
+		args.add(date);
+		List<LocalDate> candidates = jdbcTemplate.queryForList(
+				SELECT_CANDIDATES_SQL.formatted(String.join(", ", Collections.nCopies(buckets.length, "?"))),
+				LocalDate.class, args.toArray());
+
+		if (candidates.isEmpty()) {
+			return new SimilarDaysResponse.Data(date.toString(), List.of());
+		}
+
+		List<SimilarDaysResponse.SimilarDay> similarDays = new ArrayList<>();
+		for (DailySummary candidate : latestByDate(dailySummaryRepository.findAllByUserAndDateIn(user, candidates)).values()) {
+			int[] candidateSignature = MinHashSignature.fromBytes(candidate.getKeywordSignature());
+			if (candidateSignature == null) {
+				continue;
+			}
+			double similarity = MinHashSignature.similarity(signature, candidateSignature);
+			similarDays.add(new SimilarDaysResponse.SimilarDay(
+					candidate.getDate().toString(),
+					Math.round(similarity * 100) / 100.0,
+					topKeyword(candidate.getTopKeywordsJson())
+			));
+		}
+
+		similarDays.sort(Comparator.comparingDouble(SimilarDaysResponse.SimilarDay::similarity).reversed()
+				.thenComparing(SimilarDaysResponse.SimilarDay::date, Comparator.reverseOrder()));
+
+		return new SimilarDaysResponse.Data(
+				date.toString(),
+				similarDays.subList(0, Math.min(similarDays.size(), Math.max(1, Math.min(limit, MAX_LIMIT))))
+		);
+	}
+
+	/**
+	 * 서명 없이 저장된 과거 요약을 최근 것부터 최대 100개 채움
+	 * - 오늘의 키워드는 채울 날짜 범위를 한 번에 조회해서 날짜별로 나눔
+	 * - 서명 갱신과 버킷 교체는 각각 배치 쿼리 (행 수와 무관하게 쿼리 수 고정)
+	 * - 버킷은 날짜별 최신 행이 이번에 채운 행인 날짜만 교체 (이미 서명된 더 최신 행의 버킷을 덮어쓰지 않음)
+	 */
+	private void backfill(User user) {
+		List<DailySummary> unsigned = dailySummaryRepository.findTop100ByUserAndKeywordSignatureIsNullOrderByIdDesc(user);
+		if (unsigned.isEmpty()) {
+			return;
+		}
+
+		ZoneId zoneId = user.zoneId();
+		TreeSet<LocalDate> dates = new TreeSet<>();
+		unsigned.forEach(summary -> dates.add(summary.getDate()));
+		Map<LocalDate, List<String>> dayKeywords = keywordsByDate(user.getId(), dates.first(), dates.last(), zoneId);
+
+		Map<Long, byte[]> signatures = new HashMap<>();
+		List<Object[]> updateRows = new ArrayList<>(unsigned.size());
+		for (DailySummary summary : unsigned) {
+			byte[] signature = signature(summary.getTopKeywordsJson(),
+					dayKeywords.getOrDefault(summary.getDate(), List.of()));
+			// 같은 요청에서 다시 읽는 엔티티도 서명을 보도록 메모리 값도 갱신
+			summary.updateKeywordSignature(signature);
+			signatures.put(summary.getId(), signature);
+			updateRows.add(new Object[]{signature, summary.getId()});
+		}
+		jdbcTemplate.batchUpdate(UPDATE_SIGNATURE_SQL, updateRows);
+
+		Map<LocalDate, byte[]> bucketSignatures = new TreeMap<>();
+		latestByDate(dailySummaryRepository.findAllByUserAndDateIn(user, dates)).forEach((date, latest) -> {
+			byte[] signature = signatures.get(latest.getId());
+			if (signature != null) {
+				bucketSignatures.put(date, signature);
+			}
+		});
+		replaceBuckets(user.getId(), bucketSignatures);
+		log.info("일일 요약 키워드 서명 채움 - userId: {}, count: {}, buckets replaced: {}",
+				user.getId(), unsigned.size(), bucketSignatures.size());
+	}
+
+	private byte[] signature(String topKeywordsJson, List<String> dayKeywords) {
+		Set<String> keys = new LinkedHashSet<>();
+		for (DailySummaryResult.TopKeyword keyword : parseTopKeywords(topKeywordsJson)) {
+			addKey(keys, keyword.keyword());
+		}
+		for (String keyword : dayKeywords) {
+			addKey(keys, keyword);
+		}
+
+		int[] signature = MinHashSignature.of(keys);
+		return signature == null ? EMPTY_SIGNATURE : MinHashSignature.toBytes(signature);
+	}
+
+	/**
+	 * [from, to] 날짜(사용자 시간대)의 오늘의 키워드를 한 번에 조회해서 날짜별로 나눔
+	 * createdAt은 서버 시간대로 저장되어 있으므로 범위/날짜 변환 모두 서버 시간대를 거침
+	 */
+	private Map<LocalDate, List<String>> keywordsByDate(Long userId, LocalDate from, LocalDate to, ZoneId zoneId) {
+		ZoneId serverZone = ZoneId.systemDefault();
+		LocalDateTime start = from.atStartOfDay(zoneId).withZoneSameInstant(serverZone).toLocalDateTime();
+		LocalDateTime end = to.plusDays(1).atStartOfDay(zoneId).withZoneSameInstant(serverZone)
+				.toLocalDateTime().minusNanos(1);
+
+		Map<LocalDate, List<String>> result = new HashMap<>();
+		for (KeywordData keywordData : keywordDataRepository.findByUserIdAndCreatedAtBetween(userId, start, end)) {
+			LocalDate date = keywordData.getCreatedAt().atZone(serverZone).withZoneSameInstant(zoneId).toLocalDate();
+			result.computeIfAbsent(date, d -> new ArrayList<>()).add(keywordData.getKeyword());
+		}
+		return result;
+	}
+
+	private static Map<LocalDate, DailySummary> latestByDate(List<DailySummary> summaries) {
+		Map<LocalDate, DailySummary> result = new TreeMap<>();
+		for (DailySummary summary : summaries) {
+			result.merge(summary.getDate(), summary, (a, b) -> a.getId() >= b.getId() ? a : b);
+		}
+		return result;
+	}
+
+	// 별칭은 사전 표기로 통일해서 같은 키워드로 취급 ("리액트" = "React")
+	private void addKey(Set<String> keys, String keyword) {
+		String canonical = keywordNormalizer.canonical(keyword);
+		if (canonical != null) {
+			keys.add(KeywordNormalizer.key(canonical));
+		}
+	}
+
+	private String topKeyword(String topKeywordsJson) {
+		List<DailySummaryResult.TopKeyword> keywords = parseTopKeywords(topKeywordsJson);
+		return keywords.isEmpty() ? "기록 없음" : keywords.get(0).keyword();
+	}
+
+	private List<DailySummaryResult.TopKeyword> parseTopKeywords(String json) {
+		if (json == null || json.isBlank()) {
+			return List.of();
+		}
+		try {
+			List<DailySummaryResult.TopKeyword> keywords = objectMapper.readValue(json,
+					new TypeReference<List<DailySummaryResult.TopKeyword>>() {});
+			return keywords == null ? List.of() : keywords;
+		} catch (JsonProcessingException e) {
+			return List.of();
+		}
+	}
+}
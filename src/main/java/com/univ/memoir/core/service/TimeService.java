@@ -1,27 +1,30 @@
 package com.univ.memoir.core.service;
 
-import java.time.Instant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
 import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
@@ -30,6 +33,9 @@ import com.univ.memoir.api.dto.res.time.CategorySummary;
 import com.univ.memoir.api.dto.res.time.HourlyBreakdown;
 import com.univ.memoir.api.exception.codes.ErrorCode;
 import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import com.univ.memoir.core.analysis.ActivityAggregator;
+import com.univ.memoir.core.analysis.Sessionizer;
+import com.univ.memoir.core.domain.ActivityCategory;
 import com.univ.memoir.core.domain.TimeAnalysisData;
 import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.repository.TimeAnalysisDataRepository;
@@ -37,11 +43,20 @@ import com.univ.memoir.core.repository.TimeAnalysisDataRepository;
 @Service
 public class TimeService {
     private static final Logger log = LoggerFactory.getLogger(TimeService.class);
+    private static final TypeReference<LinkedHashMap<String, Integer>> CODE_MINUTES_TYPE = new TypeReference<>() {};
+    private static final TypeReference<LinkedHashMap<Integer, LinkedHashMap<String, Integer>>> HOURLY_CODE_MINUTES_TYPE =
+            new TypeReference<>() {};
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final UserService userService;
     private final TimeAnalysisDataRepository timeAnalysisRepository;
+    private final VisitEventIngester visitEventIngester;
+    private final TimeUsageRollupService timeUsageRollupService;
+    private final DailyUsageCellService dailyUsageCellService;
+    private final VisitUploadReader visitUploadReader;
+    private final Sessionizer sessionizer;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${openai.api.base-url}")
     private String openAIBaseUrl;
@@ -52,24 +67,55 @@ public class TimeService {
     @Value("${openai.model}")
     private String openAiModel;
 
+    @Value("${memoir.upload.classify-batch-size:100}")
+    private int classifyBatchSize;
+
     public TimeService(@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
                        ObjectMapper objectMapper,
                        UserService userService,
-                       TimeAnalysisDataRepository timeAnalysisRepository) {
+                       TimeAnalysisDataRepository timeAnalysisRepository,
+                       VisitEventIngester visitEventIngester,
+                       TimeUsageRollupService timeUsageRollupService,
+                       DailyUsageCellService dailyUsageCellService,
+                       VisitUploadReader visitUploadReader,
+                       Sessionizer sessionizer,
+                       PlatformTransactionManager transactionManager) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.userService = userService;
         this.timeAnalysisRepository = timeAnalysisRepository;
+        this.visitEventIngester = visitEventIngester;
+        this.timeUsageRollupService = timeUsageRollupService;
+        this.dailyUsageCellService = dailyUsageCellService;
+        this.visitUploadReader = visitUploadReader;
+        this.sessionizer = sessionizer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 시간 통계 분석 (증분 모드)
+     */
+    public ActivityStats analyzeTimeStats(String email, TimeAnalysisRequest request) {
+        return analyzeTimeStats(email, request, true);
     }
 
     /**
      * 시간 통계 분석
+     * - 증분 모드: 저장된 시간대 × 카테고리 누적값에 워터마크 이후 방문만 분류해서 더함
+     * - 전체 모드: 업로드된 방문 기록 전체로 다시 집계
+     * 두 경우 모두 해당 날짜의 기존 행을 갱신 (없으면 새로 저장)
+     *
+     * 워터마크 시각(반영한 방문의 최대 시작 시각)의 방문이 다시 올라오면 재분류 없이
+     * 늘어난 머문 시간만 저장된 카테고리로 이어서 더함
+     * 집계 행/시간대 롤업/연간 사용 셀 저장은 한 트랜잭션이며, 같은 날짜 행이 그 사이 갱신되었거나
+     * 다른 요청이 같은 날짜 첫 행을 먼저 저장했으면((user_id, date) 유니크 키) 충돌(409)로 실패
      *
      * @param email 사용자 이메일 (SecurityContext에서 추출)
      * @param request 시간 분석 요청 데이터
+     * @param incremental 저장된 집계를 이어서 사용할지 여부
      * @return 활동 통계
      */
-    public ActivityStats analyzeTimeStats(String email, TimeAnalysisRequest request) {
+    public ActivityStats analyzeTimeStats(String email, TimeAnalysisRequest request, boolean incremental) {
         User currentUser = userService.findByEmailForSummary(email);
 
         if (currentUser == null) {
@@ -78,55 +124,258 @@ public class TimeService {
 
         LocalDate requestDate = LocalDate.parse(request.getDate());
 
-        // GPT API 호출 후 저장
-        log.info("Calling GPT API for user: {}, date: {}", currentUser.getId(), requestDate);
         List<VisitedPageForTimeDto> pages = request.getVisitedPages();
         if (pages == null || pages.isEmpty()) {
             throw new IllegalArgumentException("방문 기록이 없습니다.");
         }
 
-        try {
-            List<CategorizedPage> categorizedPages = fetchCategorizedPages(pages);
-            ActivityStats result = summarizeActivity(categorizedPages);
+        TimeAnalysisData stored = timeAnalysisRepository
+                .findFirstByUserAndDateOrderByIdDesc(currentUser, requestDate)
+                .orElse(null);
+
+        // 시간대 버킷팅은 사용자 시간대 기준
+        ZoneId zoneId = currentUser.zoneId();
+        ActivityAggregator restored = incremental ? restoreAggregator(stored, zoneId) : null;
+        ActivityAggregator aggregator = restored != null ? restored : new ActivityAggregator(zoneId);
+        final Watermark watermark = restored != null ? Watermark.of(stored) : Watermark.NONE;
+
+        List<VisitedPageForTimeDto> uploaded = pages.stream()
+                .filter(Objects::nonNull)
+                .filter(page -> page.getStartTimestamp() >= watermark.timestamp())
+                .toList();
 
-            // DB에 저장
-            saveToDatabase(currentUser, requestDate, result);
+        // 원본 방문 기록 보관 (비동기 배치 적재, 워터마크 시각 방문은 upsert로 머문 시간 갱신)
+        visitEventIngester.enqueueTimedVisits(currentUser.getId(), uploaded);
 
+        // 워터마크 시각 방문의 늘어난 머문 시간 반영
+        Watermark next = extendWatermark(aggregator, watermark, uploaded);
+
+        List<VisitedPageForTimeDto> newPages = uploaded.stream()
+                .filter(page -> page.getStartTimestamp() > watermark.timestamp())
+                .toList();
+
+        if (newPages.isEmpty()) {
+            log.debug("No new visits since watermark - userId: {}, date: {}", currentUser.getId(), requestDate);
+            ActivityStats result = aggregator.toActivityStats(true);
+            if (!next.equals(watermark)) {
+                saveToDatabase(currentUser, requestDate, stored, result, aggregator, next);
+            }
             return result;
-        } catch (Exception e) {
-            log.error("시간 분석 실패", e);
-            throw new RuntimeException("서버 오류: " + e.getMessage(), e);
         }
+
+        // 연속된 같은 페이지 방문을 세션으로 합친 뒤 분류
+        List<Sessionizer.Session> sessions = sessionizer.sessionize(newPages);
+
+        // GPT API 호출 후 저장
+        log.info("Calling GPT API for user: {}, date: {}, sessions: {}, new pages: {}/{}",
+                currentUser.getId(), requestDate, sessions.size(), newPages.size(), pages.size());
+
+        List<CategorizedPage> categorizedPages;
+        try {
+            categorizedPages = fetchCategorizedPages(Sessionizer.pagesOf(sessions));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방문 기록 직렬화 실패", e);
+        }
+        // 세션 시작 시각이 아니라 원본 방문의 최대 시작 시각을 워터마크로 사용
+        next = accumulate(aggregator, sessions, categorizedPages, next);
+
+        // 콘텐츠 소비 비율 재분배는 카테고리 합계에만 적용
+        ActivityStats result = aggregator.toActivityStats(true);
+
+        // DB에 저장 (실패 시 예외 전파)
+        saveToDatabase(currentUser, requestDate, stored, result, aggregator, next);
+
+        return result;
     }
 
-    private void saveToDatabase(User user, LocalDate date, ActivityStats stats) {
+    /**
+     * 시간 통계 분석 (스트리밍 업로드)
+     * - 요청 본문을 VisitUploadReader로 읽으며 classifyBatchSize 단위로 분류/집계
+     * - 요청당 메모리는 업로드 크기와 무관하게 묶음 하나 + 중복 제거용 키 집합 수준
+     * - 증분/저장 방식은 analyzeTimeStats와 동일
+     *
+     * @param email 사용자 이메일 (SecurityContext에서 추출)
+     * @param date 분석 날짜
+     * @param body 방문 기록 JSON 본문
+     * @param incremental 저장된 집계를 이어서 사용할지 여부
+     * @return 활동 통계
+     */
+    public ActivityStats analyzeTimeStatsStream(String email, LocalDate date, InputStream body, boolean incremental) {
+        User currentUser = userService.findByEmailForSummary(email);
+
+        if (currentUser == null) {
+            throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        TimeAnalysisData stored = timeAnalysisRepository
+                .findFirstByUserAndDateOrderByIdDesc(currentUser, date)
+                .orElse(null);
+
+        ZoneId zoneId = currentUser.zoneId();
+        ActivityAggregator restored = incremental ? restoreAggregator(stored, zoneId) : null;
+        ActivityAggregator aggregator = restored != null ? restored : new ActivityAggregator(zoneId);
+        final Watermark watermark = restored != null ? Watermark.of(stored) : Watermark.NONE;
+
+        Watermark[] advanced = {watermark};
+        List<VisitedPageForTimeDto> atWatermark = new ArrayList<>();
+        int[] classifiedCount = {0};
+
+        VisitUploadReader.UploadSummary summary;
         try {
-            TimeAnalysisData data = new TimeAnalysisData(
-                    user,
-                    date,
-                    stats.getTotalUsageTimeMinutes(),
-                    objectMapper.writeValueAsString(stats.getCategorySummaries()),
-                    objectMapper.writeValueAsString(stats.getHourlyActivityBreakdown())
-            );
-            timeAnalysisRepository.save(data);
-            log.debug("Time analysis data saved - userId: {}, date: {}", user.getId(), date);
-        } catch (Exception e) {
-            log.error("Failed to save time analysis data", e);
-            // 저장 실패해도 결과는 반환
+            summary = visitUploadReader.read(body, classifyBatchSize, chunk -> {
+                visitEventIngester.enqueueTimedVisits(currentUser.getId(), chunk.stream()
+                        .filter(page -> page.getStartTimestamp() >= watermark.timestamp())
+                        .toList());
+
+                chunk.stream()
+                        .filter(page -> page.getStartTimestamp() == watermark.timestamp())
+                        .forEach(atWatermark::add);
+
+                List<VisitedPageForTimeDto> newPages = chunk.stream()
+                        .filter(page -> page.getStartTimestamp() > watermark.timestamp())
+                        .toList();
+                if (newPages.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    List<Sessionizer.Session> sessions = sessionizer.sessionize(newPages);
+                    List<CategorizedPage> categorizedPages = fetchCategorizedPages(Sessionizer.pagesOf(sessions));
+                    advanced[0] = accumulate(aggregator, sessions, categorizedPages, advanced[0]);
+                    classifiedCount[0] += newPages.size();
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("방문 기록 직렬화 실패", e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("방문 기록 업로드 읽기 실패", e);
         }
+
+        if (summary.accepted() == 0) {
+            throw new IllegalArgumentException("방문 기록이 없습니다.");
+        }
+
+        log.info("Streamed time analysis - userId: {}, date: {}, received: {}, accepted: {}, duplicates: {}, invalid: {}, classified: {}",
+                currentUser.getId(), date, summary.received(), summary.accepted(), summary.duplicates(),
+                summary.invalid(), classifiedCount[0]);
+
+        // 워터마크 시각 방문의 늘어난 머문 시간 반영 후, 새 방문으로 워터마크가 앞으로 갔으면 그쪽을 사용
+        Watermark next = extendWatermark(aggregator, watermark, atWatermark);
+        if (advanced[0].timestamp() > next.timestamp()) {
+            next = advanced[0];
+        }
+
+        // 콘텐츠 소비 비율 재분배는 카테고리 합계에만 적용
+        ActivityStats result = aggregator.toActivityStats(true);
+        if (!next.equals(watermark)) {
+            saveToDatabase(currentUser, date, stored, result, aggregator, next);
+        }
+        return result;
     }
 
-    private ActivityStats convertToActivityStats(TimeAnalysisData data) {
+    /**
+     * 저장된 누적 행렬로 집계기 복원 (증분 정보가 없거나 형식이 맞지 않으면 null)
+     */
+    private ActivityAggregator restoreAggregator(TimeAnalysisData stored, ZoneId zoneId) {
+        if (stored == null || !stored.isIncrementable()) {
+            return null;
+        }
+        try {
+            return ActivityAggregator.fromBytes(zoneId, stored.getHourlyCategorySeconds());
+        } catch (IllegalArgumentException e) {
+            log.warn("Stored time analysis matrix is not usable, recomputing - id: {}", stored.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 워터마크 시각 방문의 머문 시간이 늘어난 만큼만 저장된 카테고리로 이어서 더함 (재분류 없음)
+     * - 같은 시각 방문이 여러 개면 합계로 비교
+     * - 카테고리가 없는 이전 형식 행은 증가분을 알 수 없으므로 그대로 둠
+     */
+    private Watermark extendWatermark(ActivityAggregator aggregator, Watermark watermark,
+                                      List<VisitedPageForTimeDto> pages) {
+        if (watermark.category() == null) {
+            return watermark;
+        }
+        int durationSeconds = pages.stream()
+                .filter(page -> page.getStartTimestamp() == watermark.timestamp())
+                .mapToInt(page -> Math.max(0, page.getDurationSeconds()))
+                .sum();
+        int grownSeconds = durationSeconds - watermark.durationSeconds();
+        if (grownSeconds <= 0) {
+            return watermark;
+        }
+        aggregator.add(watermark.timestamp() + watermark.durationSeconds() * 1000L, grownSeconds, watermark.category());
+        return new Watermark(watermark.timestamp(), durationSeconds, watermark.category());
+    }
+
+    /**
+     * 저장 형식은 카테고리 코드 기반의 압축 JSON
+     * - categorySummariesJson: {"C":40,"S":12}
+     * - hourlyBreakdownsJson: {"9":{"C":30,"S":5}}
+     *
+     * 집계 행, 시간대 롤업, 연간 사용 셀을 한 트랜잭션으로 저장 (하나라도 실패하면 모두 롤백 후 예외 전파)
+     */
+    private void saveToDatabase(User user, LocalDate date, TimeAnalysisData stored, ActivityStats stats,
+                                ActivityAggregator aggregator, Watermark watermark) {
+        byte[] hourlyCategorySeconds = aggregator.toBytes();
+        String categorySummariesJson;
+        String hourlyBreakdownsJson;
+        try {
+            categorySummariesJson = objectMapper.writeValueAsString(encodeCategorySummaries(stats.getCategorySummaries()));
+            hourlyBreakdownsJson = objectMapper.writeValueAsString(encodeHourlyBreakdowns(stats.getHourlyActivityBreakdown()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("시간 분석 데이터 직렬화 실패", e);
+        }
+        Character lastVisitCategory = watermark.category() != null ? watermark.category().getCode() : null;
+
         try {
-            List<CategorySummary> categorySummaries = objectMapper.readValue(
-                    data.getCategorySummariesJson(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, CategorySummary.class)
-            );
+            transactionTemplate.executeWithoutResult(status -> {
+                if (stored != null) {
+                    stored.updateAggregation(stats.getTotalUsageTimeMinutes(), categorySummariesJson, hourlyBreakdownsJson,
+                            hourlyCategorySeconds, watermark.timestamp(), watermark.durationSeconds(), lastVisitCategory);
+                    timeAnalysisRepository.saveAndFlush(stored);
+                } else {
+                    timeAnalysisRepository.saveAndFlush(new TimeAnalysisData(user, date, stats.getTotalUsageTimeMinutes(),
+                            categorySummariesJson, hourlyBreakdownsJson, hourlyCategorySeconds,
+                            watermark.timestamp(), watermark.durationSeconds(), lastVisitCategory));
+                }
+                timeUsageRollupService.replaceDay(user.getId(), date, aggregator);
+                dailyUsageCellService.updateUsage(user.getId(), date, aggregator);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (stored != null) {
+                throw e;
+            }
+            // (user_id, date) 유니크 키 - 다른 요청이 같은 날짜 첫 행을 먼저 저장함, 갱신 충돌과 같이 409로 응답
+            throw new OptimisticLockingFailureException(
+                    "Time analysis row already created - userId: " + user.getId() + ", date: " + date, e);
+        }
+        log.debug("Time analysis data saved - userId: {}, date: {}", user.getId(), date);
+    }
 
-            List<HourlyBreakdown> hourlyBreakdowns = objectMapper.readValue(
-                    data.getHourlyBreakdownsJson(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, HourlyBreakdown.class)
-            );
+    private ActivityStats convertToActivityStats(TimeAnalysisData data) {
+        try {
+            List<CategorySummary> categorySummaries;
+            List<HourlyBreakdown> hourlyBreakdowns;
+
+            if (isLegacyFormat(data.getCategorySummariesJson())) {
+                // 라벨 문자열로 저장된 이전 형식
+                categorySummaries = objectMapper.readValue(
+                        data.getCategorySummariesJson(),
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, CategorySummary.class)
+                );
+                hourlyBreakdowns = objectMapper.readValue(
+                        data.getHourlyBreakdownsJson(),
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, HourlyBreakdown.class)
+                );
+            } else {
+                categorySummaries = decodeCategorySummaries(
+                        objectMapper.readValue(data.getCategorySummariesJson(), CODE_MINUTES_TYPE));
+                hourlyBreakdowns = decodeHourlyBreakdowns(
+                        objectMapper.readValue(data.getHourlyBreakdownsJson(), HOURLY_CODE_MINUTES_TYPE));
+            }
 
             return new ActivityStats(data.getTotalUsageMinutes(), categorySummaries, hourlyBreakdowns);
         } catch (JsonProcessingException e) {
@@ -134,6 +383,56 @@ public class TimeService {
         }
     }
 
+    private static boolean isLegacyFormat(String json) {
+        return json != null && json.stripLeading().startsWith("[");
+    }
+
+    private static Map<String, Integer> encodeCategorySummaries(List<CategorySummary> summaries) {
+        Map<String, Integer> encoded = new LinkedHashMap<>();
+        for (CategorySummary summary : summaries) {
+            encoded.put(toCode(summary.getCategory()), summary.getTotalTimeMinutes());
+        }
+        return encoded;
+    }
+
+    private static Map<Integer, Map<String, Integer>> encodeHourlyBreakdowns(List<HourlyBreakdown> breakdowns) {
+        Map<Integer, Map<String, Integer>> encoded = new LinkedHashMap<>();
+        for (HourlyBreakdown breakdown : breakdowns) {
+            Map<String, Integer> categoryMinutes = new LinkedHashMap<>();
+            breakdown.getCategoryMinutes().forEach((label, minutes) -> categoryMinutes.put(toCode(label), minutes));
+            encoded.put(breakdown.getHour(), categoryMinutes);
+        }
+        return encoded;
+    }
+
+    private static List<CategorySummary> decodeCategorySummaries(Map<String, Integer> encoded) {
+        List<CategorySummary> summaries = new ArrayList<>(encoded.size());
+        encoded.forEach((code, minutes) -> summaries.add(new CategorySummary(toLabel(code), minutes)));
+        return summaries;
+    }
+
+    private static List<HourlyBreakdown> decodeHourlyBreakdowns(Map<Integer, ? extends Map<String, Integer>> encoded) {
+        List<HourlyBreakdown> breakdowns = new ArrayList<>(encoded.size());
+        encoded.forEach((hour, codeMinutes) -> {
+            Map<String, Integer> categoryMinutes = new LinkedHashMap<>();
+            int total = 0;
+            for (Map.Entry<String, Integer> entry : codeMinutes.entrySet()) {
+                categoryMinutes.put(toLabel(entry.getKey()), entry.getValue());
+                total += entry.getValue();
+            }
+            breakdowns.add(new HourlyBreakdown(hour, total, categoryMinutes));
+        });
+        return breakdowns;
+    }
+
+    private static String toCode(String label) {
+        return String.valueOf(ActivityCategory.fromLabelOrDefault(label).getCode());
+    }
+
+    private static String toLabel(String code) {
+        return ActivityCategory.fromCode(code.charAt(0)).getLabel();
+    }
+
     // ===== 기존 메서드들 (GPT API 호출 관련) =====
 
     private List<CategorizedPage> fetchCategorizedPages(List<VisitedPageForTimeDto> pages) throws JsonProcessingException {
@@ -206,13 +505,13 @@ public class TimeService {
                 Map<String, String> item = parsedList.get(i);
                 if (item == null || !item.containsKey("category")) {
                     // 잘못된 아이템 수정
-                    parsedList.set(i, Map.of("title", "", "url", "", "category", DEFAULT_CATEGORY));
+                    parsedList.set(i, Map.of("title", "", "url", "", "category", ActivityCategory.DEFAULT.getLabel()));
                 }
             }
 
             // 누락된 응답을 기본 카테고리로 채우기
             while (parsedList.size() < originalSize) {
-                parsedList.add(Map.of("title", "", "url", "", "category", DEFAULT_CATEGORY));
+                parsedList.add(Map.of("title", "", "url", "", "category", ActivityCategory.DEFAULT.getLabel()));
             }
 
             // 초과된 응답 제거
@@ -230,7 +529,7 @@ public class TimeService {
             // 파싱 실패 시 모든 페이지를 기본 카테고리로 설정
             List<Map<String, String>> fallbackList = new ArrayList<>();
             for (int i = 0; i < originalSize; i++) {
-                fallbackList.add(Map.of("title", "", "url", "", "category", DEFAULT_CATEGORY));
+                fallbackList.add(Map.of("title", "", "url", "", "category", ActivityCategory.DEFAULT.getLabel()));
             }
             return fallbackList;
         } catch (Exception e) {
@@ -239,7 +538,7 @@ public class TimeService {
             // 예상치 못한 에러 시에도 기본값 반환
             List<Map<String, String>> fallbackList = new ArrayList<>();
             for (int i = 0; i < originalSize; i++) {
-                fallbackList.add(Map.of("title", "", "url", "", "category", DEFAULT_CATEGORY));
+                fallbackList.add(Map.of("title", "", "url", "", "category", ActivityCategory.DEFAULT.getLabel()));
             }
             return fallbackList;
         }
@@ -303,106 +602,74 @@ public class TimeService {
         return content;
     }
 
-    private static final List<String> VALID_CATEGORIES = List.of(
-            "공부, 학습", "뉴스, 정보 탐색", "콘텐츠 소비", "쇼핑", "업무, 프로젝트"
-    );
-
-    private static final String DEFAULT_CATEGORY = "콘텐츠 소비";
-
     private List<CategorizedPage> mergePagesWithCategories(List<VisitedPageForTimeDto> pages,
                                                            List<Map<String, String>> categories) {
         List<CategorizedPage> result = new ArrayList<>();
         for (int i = 0; i < pages.size(); i++) {
-            String category = categories.get(i).get("category");
+            String raw = categories.get(i).get("category");
 
             // 비어 있거나 유효하지 않은 경우, 기본값으로 설정
-            if (category == null || !VALID_CATEGORIES.contains(category.trim())) {
-                log.warn("잘못된 카테고리 '{}' → 기본값 '{}'으로 대체", category, DEFAULT_CATEGORY);
-                category = DEFAULT_CATEGORY;
-            }
+            ActivityCategory category = ActivityCategory.parse(raw).orElseGet(() -> {
+                log.warn("잘못된 카테고리 '{}' → 기본값 '{}'으로 대체", raw, ActivityCategory.DEFAULT.getLabel());
+                return ActivityCategory.DEFAULT;
+            });
 
             result.add(new CategorizedPage(pages.get(i), category));
         }
         return result;
     }
 
-    private ActivityStats summarizeActivity(List<CategorizedPage> pages) {
-        int totalSeconds = 0;
-        Map<String, Integer> categoryToSeconds = new HashMap<>();
-        Map<Integer, Map<String, Integer>> hourlyCategorySeconds = new TreeMap<>();
-
-        for (CategorizedPage page : pages) {
-            int duration = page.page.getDurationSeconds();
-            long start = page.page.getStartTimestamp();
-            String category = page.category;
-            totalSeconds += duration;
-
-            categoryToSeconds.merge(category, duration, Integer::sum);
-            distributeTimeAcrossHours(start, duration, category, hourlyCategorySeconds);
-        }
-
-        // 콘텐츠 소비 비율 재분배 로직 (초 단위로 조정)
-        int contentConsumptionSeconds = categoryToSeconds.getOrDefault("콘텐츠 소비", 0);
-
-        if (contentConsumptionSeconds > totalSeconds * 0.8) {
-            int redistribute = contentConsumptionSeconds - (int)(totalSeconds * 0.7);
-            contentConsumptionSeconds -= redistribute;
-
-            categoryToSeconds.put("콘텐츠 소비", contentConsumptionSeconds);
-            categoryToSeconds.merge("공부, 학습", redistribute / 2, Integer::sum);
-            categoryToSeconds.merge("뉴스, 정보 탐색", redistribute / 2, Integer::sum);
+    /**
+     * 세션별 분류 결과를 세션에 속한 원본 방문 구간마다 집계기에 더하고 앞으로 간 워터마크를 반환
+     * - 세션 대표 방문(첫 시작 시각 + 합계 시간)으로 더하면 방문 사이 공백만큼 시간대가 밀림
+     */
+    private Watermark accumulate(ActivityAggregator aggregator, List<Sessionizer.Session> sessions,
+                                 List<CategorizedPage> categorizedPages, Watermark watermark) {
+        Watermark next = watermark;
+        for (int i = 0; i < sessions.size(); i++) {
+            ActivityCategory category = categorizedPages.get(i).category;
+            for (VisitedPageForTimeDto visit : sessions.get(i).getVisits()) {
+                aggregator.add(visit.getStartTimestamp(), visit.getDurationSeconds(), category);
+                next = next.advance(visit.getStartTimestamp(), visit.getDurationSeconds(), category);
+            }
         }
-
-        // 최종 분 단위로 변환
-        List<CategorySummary> categorySummaries = categoryToSeconds.entrySet().stream()
-                .map(e -> new CategorySummary(e.getKey(), e.getValue() / 60))
-                .sorted(Comparator.comparing(CategorySummary::getTotalTimeMinutes).reversed())
-                .collect(Collectors.toList());
-
-        List<HourlyBreakdown> hourlyBreakdowns = hourlyCategorySeconds.entrySet().stream()
-                .map(entry -> {
-                    Map<String, Integer> categoryMinutes = entry.getValue().entrySet().stream()
-                            .collect(Collectors.toMap(
-                                    Map.Entry::getKey,
-                                    e -> e.getValue() / 60 // 초 → 분
-                            ));
-                    int hourTotalMinutes = categoryMinutes.values().stream().mapToInt(Integer::intValue).sum();
-                    return new HourlyBreakdown(entry.getKey(), hourTotalMinutes, categoryMinutes);
-                })
-                .collect(Collectors.toList());
-
-        return new ActivityStats(totalSeconds / 60, categorySummaries, hourlyBreakdowns);
+        return next;
     }
 
-    private void distributeTimeAcrossHours(long startTimestampMillis, int durationSeconds, String category,
-                                           Map<Integer, Map<String, Integer>> hourlyCategorySeconds) {
-
-        long currentTimeMillis = startTimestampMillis;
-        int remaining = durationSeconds;
-
-        while (remaining > 0) {
-            ZonedDateTime current = Instant.ofEpochMilli(currentTimeMillis).atZone(ZoneId.of("Asia/Seoul"));
-            int hour = current.getHour();
-
-            ZonedDateTime endOfHour = current.withMinute(59).withSecond(59).withNano(999_000_000);
-            long secondsUntilEnd = endOfHour.toEpochSecond() - current.toEpochSecond() + 1;
+    /**
+     * 증분 집계 기준점
+     * - timestamp: 반영한 방문의 최대 시작 시각
+     * - durationSeconds, category: 그 시각 방문의 반영된 머문 시간 합계와 카테고리
+     */
+    private record Watermark(long timestamp, int durationSeconds, ActivityCategory category) {
 
-            int segment = (int) Math.min(remaining, secondsUntilEnd);
+        static final Watermark NONE = new Watermark(Long.MIN_VALUE, 0, null);
 
-            hourlyCategorySeconds
-                    .computeIfAbsent(hour, h -> new HashMap<>())
-                    .merge(category, segment, Integer::sum);
+        static Watermark of(TimeAnalysisData stored) {
+            Integer durationSeconds = stored.getLastVisitDurationSeconds();
+            Character category = stored.getLastVisitCategory();
+            return new Watermark(stored.getLastVisitTimestamp(),
+                    durationSeconds != null ? durationSeconds : 0,
+                    category != null ? ActivityCategory.fromCode(category) : null);
+        }
 
-            remaining -= segment;
-            currentTimeMillis += segment * 1000L;
+        Watermark advance(long startTimestamp, int durationSeconds, ActivityCategory category) {
+            int duration = Math.max(0, durationSeconds);
+            if (startTimestamp > timestamp) {
+                return new Watermark(startTimestamp, duration, category);
+            }
+            if (startTimestamp == timestamp) {
+                return new Watermark(timestamp, this.durationSeconds + duration, this.category);
+            }
+            return this;
         }
     }
 
     static class CategorizedPage {
         VisitedPageForTimeDto page;
-        String category;
+        ActivityCategory category;
 
-        public CategorizedPage(VisitedPageForTimeDto page, String category) {
+        public CategorizedPage(VisitedPageForTimeDto page, ActivityCategory category) {
             this.page = page;
             this.category = category;
         }
@@ -0,0 +1,124 @@
+package com.univ.memoir.core.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.api.dto.res.time.CategorySummary;
+import com.univ.memoir.api.dto.res.time.TimeRangeStats;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.UserNotFoundException;
+import com.univ.memoir.core.analysis.ActivityAggregator;
+import com.univ.memoir.core.domain.ActivityCategory;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.repository.TimeUsageRollupRepository;
+import com.univ.memoir.core.repository.TimeUsageRollupRepository.RollupCell;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 사용 시간 롤업 관리 및 기간 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeUsageRollupService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int HOURS = 24;
+
+    private static final String DELETE_DAY_SQL =
+            "DELETE FROM time_usage_rollup WHERE user_id = ? AND usage_date = ?";
+    private static final String INSERT_CELL_SQL = """
+            INSERT INTO time_usage_rollup (user_id, usage_date, category, hour_of_day, seconds)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeUsageRollupRepository rollupRepository;
+    private final UserService userService;
+
+    /**
+     * 해당 날짜의 롤업을 집계기 값으로 교체 (0초 셀은 저장하지 않음)
+     */
+    @Transactional
+    public void replaceDay(Long userId, LocalDate date, ActivityAggregator aggregator) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int hour = 0; hour < HOURS; hour++) {
+            for (ActivityCategory category : ActivityCategory.values()) {
+                int seconds = aggregator.getHourlySeconds(hour, category);
+                if (seconds > 0) {
+                    rows.add(new Object[]{userId, date, String.valueOf(category.getCode()), hour, seconds});
+                }
+            }
+        }
+
+        jdbcTemplate.update(DELETE_DAY_SQL, userId, date);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CELL_SQL, rows);
+        }
+        log.debug("Time usage rollup replaced - userId: {}, date: {}, cells: {}", userId, date, rows.size());
+    }
+
+    /**
+     * 기간별 사용 시간 조회 (from, to 포함)
+     * - 일별 합계, 카테고리별 합계, 요일 × 시간대 히트맵
+     */
+    @Transactional(readOnly = true)
+    public TimeRangeStats getRangeStats(String email, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        User user = userService.findByEmailForSummary(email);
+        if (user == null) {
+            throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        long totalSeconds = 0;
+        Map<LocalDate, Long> dailySeconds = new TreeMap<>();
+        Map<ActivityCategory, Long> categorySeconds = new EnumMap<>(ActivityCategory.class);
+        long[][] heatmapSeconds = new long[DayOfWeek.values().length][HOURS];
+
+        for (RollupCell cell : rollupRepository.sumByDateCategoryHour(user.getId(), from, to)) {
+            long seconds = cell.getSeconds();
+            totalSeconds += seconds;
+            dailySeconds.merge(cell.getUsageDate(), seconds, Long::sum);
+            categorySeconds.merge(cell.getCategory(), seconds, Long::sum);
+            heatmapSeconds[cell.getUsageDate().getDayOfWeek().ordinal()][cell.getHour()] += seconds;
+        }
+
+        List<TimeRangeStats.DailyUsage> dailyUsages = new ArrayList<>(dailySeconds.size());
+        dailySeconds.forEach((date, seconds) ->
+                dailyUsages.add(new TimeRangeStats.DailyUsage(date.toString(), (int) (seconds / 60))));
+
+        List<CategorySummary> categorySummaries = new ArrayList<>(categorySeconds.size());
+        categorySeconds.forEach((category, seconds) ->
+                categorySummaries.add(new CategorySummary(category.getLabel(), (int) (seconds / 60))));
+        categorySummaries.sort(Comparator.comparingInt(CategorySummary::getTotalTimeMinutes).reversed());
+
+        int[][] heatmap = new int[heatmapSeconds.length][HOURS];
+        for (int day = 0; day < heatmapSeconds.length; day++) {
+            for (int hour = 0; hour < HOURS; hour++) {
+                heatmap[day][hour] = (int) (heatmapSeconds[day][hour] / 60);
+            }
+        }
+
+        return new TimeRangeStats(from.toString(), to.toString(), (int) (totalSeconds / 60),
+                dailyUsages, categorySummaries, heatmap);
+    }
+}
@@ -0,0 +1,359 @@
+package com.univ.memoir.core.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.TrendingKeywordResponse;
+import com.univ.memoir.core.keyword.CountMinSketch;
+import com.univ.memoir.core.keyword.KeywordNormalizer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 사용자 트렌드 키워드 집계기
+ * - 키워드 저장 시 큐에 넣기만 하고, 스케줄러가 비우면서 1시간 버킷 Count-Min 스케치에 누적
+ * - 최근 windowHours개 버킷을 링으로 유지 (지난 버킷은 재사용 전에 초기화)
+ * - 후보 키워드(heavy hitter)는 최대 heavy-hitters개, 가득 차면 추정값이 가장 작은 후보와 교체
+ * - 메모리는 (depth × width × windowHours) 카운터 + 후보 수로 고정, 사용자/키워드 수와 무관
+ * - 후보마다 창 안에서 기여한 사용자를 최근 min-users명까지 기록하고, min-users명 미만이 쓴 키워드는 응답에서 제외
+ *   (한 사용자만 쓴 키워드가 다른 사용자 트렌드에 노출되지 않도록, 기여자는 스냅샷에 저장하지 않으므로 재기동 후 다시 채워짐)
+ * - 주기적으로 인스턴스별 버킷 스냅샷을 저장하고 기동 시 복구
+ */
+@Slf4j
+@Service
+public class TrendingKeywordService {
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final int MAX_K = 50;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO keyword_trend_snapshot (instance_id, bucket_hour, sketch, heavy_hitters, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), heavy_hitters = VALUES(heavy_hitters),
+                updated_at = VALUES(updated_at)
+            """;
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM keyword_trend_snapshot WHERE bucket_hour <= ?";
+    private static final String SELECT_SQL =
+            "SELECT bucket_hour, sketch, heavy_hitters FROM keyword_trend_snapshot WHERE instance_id = ? AND bucket_hour > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KeywordNormalizer keywordNormalizer;
+    private final BlockingQueue<PendingKeyword> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final int windowHours;
+    private final int heavyHitterCapacity;
+    private final int minUsers;
+    private final String instanceId;
+
+    // 링 버퍼: index = bucketHour % windowHours
+    private final CountMinSketch[] buckets;
+    private final long[] bucketHours;
+
+    // 후보 키 → 표기 / 마지막 추정값 (교체 대상 선정용, 버킷 만료 시 재계산)
+    private final Map<String, String> heavyHitters = new HashMap<>();
+    private final Map<String, Integer> estimates = new HashMap<>();
+    // 후보 키 → 기여 사용자별 마지막 버킷 시각
+    private final Map<String, Map<Long, Long>> contributors = new HashMap<>();
+    private long estimatesHour = Long.MIN_VALUE;
+    private boolean dirty;
+
+    public TrendingKeywordService(JdbcTemplate jdbcTemplate,
+                                  KeywordNormalizer keywordNormalizer,
+                                  @Value("${memoir.keyword.trending.window-hours:24}") int windowHours,
+                                  @Value("${memoir.keyword.trending.depth:4}") int depth,
+                                  @Value("${memoir.keyword.trending.width:2048}") int width,
+                                  @Value("${memoir.keyword.trending.heavy-hitters:200}") int heavyHitterCapacity,
+                                  @Value("${memoir.keyword.trending.min-users:3}") int minUsers,
+                                  @Value("${memoir.keyword.trending.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${memoir.keyword.trending.instance-id:${HOSTNAME:local}}") String instanceId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.keywordNormalizer = keywordNormalizer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.windowHours = windowHours;
+        this.heavyHitterCapacity = Math.max(heavyHitterCapacity, MAX_K);
+        this.minUsers = Math.max(minUsers, 1);
+        this.instanceId = instanceId;
+        this.buckets = new CountMinSketch[windowHours];
+        this.bucketHours = new long[windowHours];
+        for (int i = 0; i < windowHours; i++) {
+            buckets[i] = new CountMinSketch(depth, width);
+            bucketHours[i] = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * 저장된 키워드를 집계 큐에 추가 (요청 스레드는 넣기만 하고 반환)
+     */
+    public void enqueue(Long userId, List<KeywordFrequencyDto> keywordFrequencies) {
+        if (keywordFrequencies == null) {
+            return;
+        }
+        for (KeywordFrequencyDto keywordFrequency : keywordFrequencies) {
+            String canonical = keywordNormalizer.canonical(keywordFrequency.getKeyword());
+            if (canonical == null || keywordFrequency.getFrequency() <= 0) {
+                continue;
+            }
+            PendingKeyword pending = new PendingKeyword(
+                    userId, KeywordNormalizer.key(canonical), canonical, keywordFrequency.getFrequency());
+            if (!queue.offer(pending)) {
+                if (droppedCount.incrementAndGet() % 1000 == 1) {
+                    log.warn("Trending keyword queue full - dropped so far: {}", droppedCount.get());
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${memoir.keyword.trending.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingKeyword> batch = new ArrayList<>();
+        if (queue.drainTo(batch) == 0) {
+            return;
+        }
+
+        long hour = currentHour();
+        synchronized (this) {
+            CountMinSketch bucket = bucketFor(hour);
+            for (PendingKeyword pending : batch) {
+                long hash = CountMinSketch.hash(pending.key());
+                bucket.add(hash, pending.count());
+                offerHeavyHitter(pending.key(), pending.display(), hash, hour);
+                recordContributor(pending.key(), pending.userId(), hour);
+            }
+            dirty = true;
+        }
+    }
+
+    /**
+     * 최근 windowHours시간 상위 k개 (메모리에서만 조회, 기여 사용자가 min-users명 미만인 키워드 제외)
+     */
+    public TrendingKeywordResponse getTrending(int k) {
+        long hour = currentHour();
+        synchronized (this) {
+            refreshEstimates(hour);
+
+            List<KeywordFrequencyDto> keywords = estimates.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .filter(entry -> liveContributors(entry.getKey(), hour) >= minUsers)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(Math.max(1, Math.min(k, MAX_K)))
+                    .map(entry -> new KeywordFrequencyDto(heavyHitters.get(entry.getKey()), entry.getValue()))
+                    .toList();
+
+            return new TrendingKeywordResponse(windowHours, keywords);
+        }
+    }
+
+    /**
+     * 변경된 경우에만 창 안의 버킷을 스냅샷으로 저장하고 만료된 스냅샷 삭제
+     */
+    @Scheduled(fixedDelayString = "${memoir.keyword.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long hour = currentHour();
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            String heavyHitterDisplays = String.join("\n", heavyHitters.values());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < windowHours; i++) {
+                if (isLive(bucketHours[i], hour)) {
+                    rows.add(new Object[]{instanceId, bucketHours[i], buckets[i].toBytes(), heavyHitterDisplays, now});
+                }
+            }
+            dirty = false;
+        }
+
+        try {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            }
+            jdbcTemplate.update(DELETE_EXPIRED_SQL, hour - windowHours);
+            log.debug("Trending keyword snapshot saved - instance: {}, buckets: {}", instanceId, rows.size());
+        } catch (Exception e) {
+            synchronized (this) {
+                dirty = true;
+            }
+            log.error("Trending keyword snapshot failed - instance: {}", instanceId, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long hour = currentHour();
+        try {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getBytes(2), rs.getString(3)},
+                    instanceId, hour - windowHours);
+
+            synchronized (this) {
+                for (Object[] row : rows) {
+                    long bucketHour = (long) row[0];
+                    int index = (int) Math.floorMod(bucketHour, (long) windowHours);
+                    buckets[index].load((byte[]) row[1]);
+                    bucketHours[index] = bucketHour;
+                    restoreHeavyHitters((String) row[2]);
+                }
+                estimatesHour = Long.MIN_VALUE;
+            }
+            log.info("Trending keyword snapshot restored - instance: {}, buckets: {}, heavyHitters: {}",
+                    instanceId, rows.size(), heavyHitters.size());
+        } catch (Exception e) {
+            log.warn("Trending keyword snapshot restore failed - starting empty", e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        flush();
+        snapshot();
+    }
+
+    private void restoreHeavyHitters(String displays) {
+        if (displays == null || displays.isEmpty()) {
+            return;
+        }
+        for (String display : displays.split("\n")) {
+            if (heavyHitters.size() >= heavyHitterCapacity) {
+                return;
+            }
+            String key = KeywordNormalizer.key(display);
+            if (!key.isEmpty()) {
+                heavyHitters.putIfAbsent(key, display);
+            }
+        }
+    }
+
+    private CountMinSketch bucketFor(long hour) {
+        int index = (int) Math.floorMod(hour, (long) windowHours);
+        if (bucketHours[index] != hour) {
+            buckets[index].clear();
+            bucketHours[index] = hour;
+            // 만료된 버킷만큼 추정값이 줄었으므로 다음 교체 판단 전에 재계산
+            estimatesHour = Long.MIN_VALUE;
+        }
+        return buckets[index];
+    }
+
+    private void offerHeavyHitter(String key, String display, long hash, long hour) {
+        refreshEstimates(hour);
+        int estimate = windowEstimate(hash, hour);
+
+        if (heavyHitters.containsKey(key)) {
+            estimates.put(key, estimate);
+            return;
+        }
+
+        if (heavyHitters.size() >= heavyHitterCapacity) {
+            String minKey = null;
+            int minEstimate = Integer.MAX_VALUE;
+            for (Map.Entry<String, Integer> entry : estimates.entrySet()) {
+                if (entry.getValue() < minEstimate) {
+                    minKey = entry.getKey();
+                    minEstimate = entry.getValue();
+                }
+            }
+            if (minKey == null || estimate <= minEstimate) {
+                return;
+            }
+            heavyHitters.remove(minKey);
+            estimates.remove(minKey);
+            contributors.remove(minKey);
+        }
+
+        heavyHitters.put(key, display);
+        estimates.put(key, estimate);
+    }
+
+    private void refreshEstimates(long hour) {
+        if (estimatesHour == hour) {
+            return;
+        }
+        estimates.clear();
+        heavyHitters.keySet().removeIf(key -> {
+            int estimate = windowEstimate(CountMinSketch.hash(key), hour);
+            if (estimate <= 0) {
+                contributors.remove(key);
+                return true;
+            }
+            estimates.put(key, estimate);
+            return false;
+        });
+        estimatesHour = hour;
+    }
+
+    /**
+     * 후보 키워드의 기여 사용자 기록 - 최근 minUsers명만 유지 (그보다 많이 알 필요가 없음)
+     * - 가장 오래전에 본 사용자를 밀어내므로, 창 안의 사용자가 minUsers명 이상이면 남은 기록이 모두 창 안에 있음
+     */
+    private void recordContributor(String key, Long userId, long hour) {
+        if (userId == null || !heavyHitters.containsKey(key)) {
+            return;
+        }
+        Map<Long, Long> users = contributors.computeIfAbsent(key, k -> new HashMap<>());
+        users.put(userId, hour);
+        if (users.size() > minUsers) {
+            Long oldest = null;
+            long oldestHour = Long.MAX_VALUE;
+            for (Map.Entry<Long, Long> entry : users.entrySet()) {
+                if (entry.getValue() < oldestHour) {
+                    oldest = entry.getKey();
+                    oldestHour = entry.getValue();
+                }
+            }
+            users.remove(oldest);
+        }
+    }
+
+    private int liveContributors(String key, long hour) {
+        Map<Long, Long> users = contributors.get(key);
+        if (users == null) {
+            return 0;
+        }
+        int live = 0;
+        for (long userHour : users.values()) {
+            if (isLive(userHour, hour)) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private int windowEstimate(long hash, long hour) {
+        long sum = 0;
+        for (int i = 0; i < windowHours; i++) {
+            if (isLive(bucketHours[i], hour)) {
+                sum += buckets[i].estimate(hash);
+            }
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    private boolean isLive(long bucketHour, long hour) {
+        return bucketHour != Long.MIN_VALUE && bucketHour <= hour && bucketHour > hour - windowHours;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    private record PendingKeyword(Long userId, String key, String display, int count) {}
+}
@@ -1,5 +1,6 @@
 package com.univ.memoir.core.service;
 
+import java.time.ZoneId;
 import java.util.Set;
 
 import com.univ.memoir.api.exception.GlobalException;
@@ -11,9 +12,12 @@ import com.univ.memoir.api.exception.custom.InvalidTokenException;
 import com.univ.memoir.core.domain.InterestType;
 import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.repository.UserRepository;
+import com.univ.memoir.core.util.UserZones;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,8 +30,11 @@ public class UserService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 프로필 조회용 - 컬렉션을 로딩하지 않으므로 즐겨찾기/관심사 수와 무관하게 단일 쿼리
+     */
     public User findByEmail(String email) {
-        return userRepository.findByEmailWithDetails(email)
+        return userRepository.findByEmail(email)
                 .orElseThrow(() -> new InvalidTokenException(ErrorCode.USER_NOT_FOUND));
     }
 
@@ -36,12 +43,36 @@ public class UserService {
                 .orElseThrow(() -> new InvalidTokenException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 관심사 변경 - 기존 관심사와 비교해 달라진 항목만 반영
+     * 응답에는 기본 프로필 정보만 필요하므로 즐겨찾기는 조회하지 않음
+     */
     @Transactional
     public User updateUserInterests(String email, Set<InterestType> interests) {
-        User user = userRepository.findByEmailWithDetails(email)
+        if (interests == null) {
+            throw new IllegalArgumentException("관심사 목록이 비어 있습니다.");
+        }
+
+        User user = userRepository.findWithInterestsByEmail(email)
                 .orElseThrow(() -> new InvalidTokenException(ErrorCode.USER_NOT_FOUND));
 
-        user.updateInterests(interests);
+        if (!user.updateInterests(interests)) {
+            log.debug("Interests unchanged - userId: {}", user.getId());
+        }
+
+        return user;
+    }
+
+    /**
+     * 시간대 변경 - 이후 시간대 버킷팅과 날짜 경계 계산에 사용
+     */
+    @Transactional
+    public User updateTimeZone(String email, String timeZone) {
+        ZoneId zoneId = UserZones.parse(timeZone);
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new InvalidTokenException(ErrorCode.USER_NOT_FOUND));
+        user.updateTimeZone(zoneId.getId());
 
         return user;
     }
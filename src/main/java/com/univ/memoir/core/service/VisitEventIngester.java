@@ -0,0 +1,142 @@
+package com.univ.memoir.core.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.api.dto.req.page.VisitedPageDto;
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+import com.univ.memoir.core.domain.VisitSource;
+import com.univ.memoir.core.util.UrlUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방문 원본 이벤트 write-behind 적재기
+ * - 요청 스레드는 큐에 넣기만 하고 즉시 반환
+ * - 스케줄러가 주기적으로 큐를 비우며 JDBC 배치 INSERT
+ * - (user_id, url_hash, start_timestamp) 중복은 DB 유니크 키로 제거, 체류 시간은 큰 값 유지
+ * - 출처(source)를 함께 기록해 날짜 0시 스냅샷이 실제 방문 시각으로 읽히지 않게 함
+ */
+@Slf4j
+@Component
+public class VisitEventIngester {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO visit_event (user_id, url_hash, host, title, start_timestamp, duration_seconds, source)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE duration_seconds = GREATEST(duration_seconds, VALUES(duration_seconds))
+            """;
+
+    private static final int MAX_HOST_LENGTH = 255;
+    private static final int MAX_TITLE_LENGTH = 512;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexService searchIndexService;
+    private final BlockingQueue<PendingVisit> queue;
+    private final int batchSize;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public VisitEventIngester(JdbcTemplate jdbcTemplate,
+                              SearchIndexService searchIndexService,
+                              @Value("${memoir.visit-event.queue-capacity:50000}") int queueCapacity,
+                              @Value("${memoir.visit-event.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchIndexService = searchIndexService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시간 분석 요청의 방문 기록 적재 (시작 시각 포함)
+     */
+    public void enqueueTimedVisits(Long userId, List<VisitedPageForTimeDto> pages) {
+        for (VisitedPageForTimeDto page : pages) {
+            if (page == null || page.getUrl() == null) {
+                continue;
+            }
+            offer(new PendingVisit(userId, page.getUrl(), page.getTitle(),
+                    page.getStartTimestamp(), page.getDurationSeconds(), VisitSource.TIMED));
+        }
+    }
+
+    /**
+     * 키워드 분석 요청의 방문 기록 적재
+     * - 시작 시각이 없으므로 해당 날짜 0시를 시작 시각으로 사용 (하루 단위 스냅샷, source = DAILY_SNAPSHOT)
+     */
+    public void enqueueDailyVisits(Long userId, List<VisitedPageDto> pages, LocalDate date, ZoneId zoneId) {
+        long dayStartMillis = date.atStartOfDay(zoneId).toInstant().toEpochMilli();
+        for (VisitedPageDto page : pages) {
+            if (page == null || page.getUrl() == null) {
+                continue;
+            }
+            offer(new PendingVisit(userId, page.getUrl(), page.getTitle(),
+                    dayStartMillis, (int) Math.min(page.getDuration(), Integer.MAX_VALUE), VisitSource.DAILY_SNAPSHOT));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${memoir.visit-event.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingVisit> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long dropped = droppedCount.get();
+        if (dropped > 0) {
+            log.warn("Visit events dropped due to full queue: {}", dropped);
+        }
+    }
+
+    private void offer(PendingVisit visit) {
+        if (!queue.offer(visit)) {
+            // 큐가 가득 차면 요청 처리를 막지 않고 버림
+            if (droppedCount.incrementAndGet() % 1000 == 1) {
+                log.warn("Visit event queue full - dropped so far: {}", droppedCount.get());
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingVisit> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, visit) -> {
+                ps.setLong(1, visit.userId());
+                ps.setLong(2, UrlUtils.hash64(visit.url()));
+                ps.setString(3, UrlUtils.truncate(UrlUtils.host(visit.url()), MAX_HOST_LENGTH));
+                ps.setString(4, UrlUtils.truncate(visit.title(), MAX_TITLE_LENGTH));
+                ps.setLong(5, visit.startTimestamp());
+                ps.setInt(6, Math.max(visit.durationSeconds(), 0));
+                ps.setString(7, visit.source().name());
+            });
+            log.debug("Visit events flushed - count: {}", batch.size());
+
+            // 저장된 제목을 검색 색인에 반영 (실제 방문 시각이 있는 경우만)
+            for (PendingVisit visit : batch) {
+                if (visit.source() != VisitSource.TIMED) {
+                    continue;
+                }
+                searchIndexService.indexTitle(visit.userId(), visit.title(), visit.startTimestamp());
+            }
+        } catch (Exception e) {
+            log.error("Visit event batch write failed - count: {}", batch.size(), e);
+        }
+    }
+
+    private record PendingVisit(Long userId, String url, String title, long startTimestamp, int durationSeconds,
+                                VisitSource source) {}
+}
@@ -0,0 +1,205 @@
+package com.univ.memoir.core.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.UploadLimitExceededException;
+import com.univ.memoir.core.util.UrlUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방문 기록 업로드 스트리밍 파서
+ * - 요청 본문을 토큰 단위로 읽으며 방문 한 건씩 역직렬화
+ * - 검증/중복 제거 후 chunkSize 단위로 소비자에게 전달 (전체 목록을 메모리에 올리지 않음)
+ * - 항목 수, 바이트 수 상한을 넘으면 즉시 중단 (413)
+ *
+ * 본문 형식: [ {...}, ... ] 또는 { "visitedPages": [ {...}, ... ] }
+ */
+@Slf4j
+@Component
+public class VisitUploadReader {
+
+    private static final String PAGES_FIELD = "visitedPages";
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    public VisitUploadReader(ObjectMapper objectMapper,
+                             @Value("${memoir.upload.max-entries:20000}") int maxEntries,
+                             @Value("${memoir.upload.max-bytes:10485760}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Content-Length로 미리 거를 수 있는 경우 본문을 읽기 전에 거절
+     */
+    public void checkContentLength(long contentLength) {
+        if (contentLength > maxBytes) {
+            throw new UploadLimitExceededException(ErrorCode.UPLOAD_TOO_LARGE);
+        }
+    }
+
+    /**
+     * @param body 요청 본문
+     * @param chunkSize 소비자에게 한 번에 넘길 방문 수
+     * @param chunkConsumer 검증/중복 제거된 방문 묶음 처리
+     * @return 읽은 항목 통계
+     * @throws IllegalArgumentException 본문 구조가 잘못된 경우
+     * @throws UploadLimitExceededException 항목 수 또는 바이트 수 상한 초과
+     */
+    public UploadSummary read(InputStream body, int chunkSize,
+                              Consumer<List<VisitedPageForTimeDto>> chunkConsumer) throws IOException {
+        int received = 0;
+        int accepted = 0;
+        int duplicates = 0;
+        int invalid = 0;
+
+        // 같은 (URL, 시작 시각) 방문은 한 번만 반영 (둘을 이어 붙인 문자열의 64비트 해시로 비교)
+        Set<Long> seen = new HashSet<>();
+        List<VisitedPageForTimeDto> chunk = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(new BoundedInputStream(body, maxBytes))) {
+            moveToPagesArray(parser);
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("방문 기록 배열이 닫히지 않았습니다.");
+                }
+                if (++received > maxEntries) {
+                    throw new UploadLimitExceededException(ErrorCode.UPLOAD_TOO_MANY_ENTRIES);
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    invalid++;
+                    continue;
+                }
+
+                VisitedPageForTimeDto page = objectMapper.readValue(parser, VisitedPageForTimeDto.class);
+                if (!isValid(page)) {
+                    invalid++;
+                    continue;
+                }
+                if (!seen.add(UrlUtils.hash64(page.getUrl() + '\u0000' + page.getStartTimestamp()))) {
+                    duplicates++;
+                    continue;
+                }
+
+                accepted++;
+                chunk.add(page);
+                if (chunk.size() >= chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 역직렬화 중 버퍼를 다시 채우다 바이트 상한에 걸리면 Jackson이 JsonMappingException으로 감싸므로 원래 예외(413)로 되돌림
+            UploadLimitExceededException limitExceeded = findLimitExceeded(e);
+            if (limitExceeded != null) {
+                throw limitExceeded;
+            }
+            throw new IllegalArgumentException("방문 기록 JSON 형식이 올바르지 않습니다.", e);
+        }
+
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+
+        UploadSummary summary = new UploadSummary(received, accepted, duplicates, invalid);
+        log.debug("Visit upload read - {}", summary);
+        return summary;
+    }
+
+    private void moveToPagesArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                token = parser.nextToken();
+                if (PAGES_FIELD.equals(field)) {
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("방문 기록 배열을 찾을 수 없습니다.");
+        }
+    }
+
+    private static UploadLimitExceededException findLimitExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UploadLimitExceededException limitExceeded) {
+                return limitExceeded;
+            }
+        }
+        return null;
+    }
+
+    private boolean isValid(VisitedPageForTimeDto page) {
+        return page.getUrl() != null
+                && !page.getUrl().isBlank()
+                && page.getStartTimestamp() > 0
+                && page.getDurationSeconds() >= 0;
+    }
+
+    public record UploadSummary(int received, int accepted, int duplicates, int invalid) {}
+
+    /**
+     * 읽은 바이트 수가 상한을 넘으면 예외를 던지는 입력 스트림
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            count += n;
+            if (count > limit) {
+                throw new UploadLimitExceededException(ErrorCode.UPLOAD_TOO_LARGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.univ.memoir.core.util;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+
+public class UrlUtils {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "igshid", "ref_src", "si");
+
+    private UrlUtils() {
+    }
+
+    /**
+     * URL의 64비트 해시 (SHA-256 앞 8바이트)
+     */
+    public static long hash64(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(url.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * URL에서 호스트 추출 (파싱 실패 시 null)
+     */
+    public static String host(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host == null ? null : host.toLowerCase();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 같은 페이지 판별용 정규화 URL
+     * - scheme/host 소문자, "www." 제거, fragment 제거
+     * - 추적용 쿼리 파라미터(utm_*, fbclid, gclid 등) 제거, 끝 슬래시 제거
+     * - 파싱할 수 없는 값은 trim만 해서 반환
+     */
+    public static String canonical(String url) {
+        if (url == null || url.isBlank()) {
+            return url;
+        }
+        String trimmed = url.trim();
+        try {
+            URI uri = URI.create(trimmed);
+            if (uri.getHost() == null) {
+                return trimmed;
+            }
+
+            String host = uri.getHost().toLowerCase();
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            StringBuilder canonical = new StringBuilder()
+                    .append(uri.getScheme() == null ? "" : uri.getScheme().toLowerCase())
+                    .append("://").append(host);
+            if (uri.getPort() != -1) {
+                canonical.append(':').append(uri.getPort());
+            }
+            canonical.append(path);
+
+            String query = canonicalQuery(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                canonical.append('?').append(query);
+            }
+            return canonical.toString();
+        } catch (IllegalArgumentException e) {
+            return trimmed;
+        }
+    }
+
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        StringBuilder query = new StringBuilder();
+        for (String param : rawQuery.split("&")) {
+            String name = param.split("=", 2)[0].toLowerCase();
+            if (param.isEmpty() || name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(param);
+        }
+        return query.toString();
+    }
+
+    public static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
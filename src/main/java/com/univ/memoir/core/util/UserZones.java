@@ -0,0 +1,64 @@
+package com.univ.memoir.core.util;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 시간대 문자열 → ZoneId 변환 (파싱 결과 캐시)
+ * - 값이 없으면 기본 시간대(Asia/Seoul)
+ * - ZoneId가 보관하는 ZoneRules도 함께 재사용되므로 요청마다 규칙을 다시 읽지 않음
+ * - 캐시 키는 앞뒤 공백을 제거한 값, 유효한 값만 최대 MAX_CACHE_SIZE개까지 캐시 (지역 ID는 수백 개라 보통 모두 들어감)
+ */
+public class UserZones {
+
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<String, ZoneId> CACHE = new ConcurrentHashMap<>();
+
+    private UserZones() {
+    }
+
+    /**
+     * 저장된 시간대 값 변환 (잘못된 값은 기본 시간대)
+     */
+    public static ZoneId resolve(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return DEFAULT_ZONE;
+        }
+        try {
+            return parse(timeZone);
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_ZONE;
+        }
+    }
+
+    /**
+     * 사용자 입력 검증용 변환
+     *
+     * @throws IllegalArgumentException 지원하지 않는 시간대
+     */
+    public static ZoneId parse(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            throw new IllegalArgumentException("시간대가 비어 있습니다.");
+        }
+        String id = timeZone.trim();
+        ZoneId cached = CACHE.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            ZoneId zoneId = ZoneId.of(id);
+            zoneId.getRules();
+            // "+09:00:01" 같은 오프셋 표기는 종류가 많으므로 상한을 넘으면 캐시하지 않고 매번 파싱
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(id, zoneId);
+            }
+            return zoneId;
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("지원하지 않는 시간대입니다: " + timeZone, e);
+        }
+    }
+}
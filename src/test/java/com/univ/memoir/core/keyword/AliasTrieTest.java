@@ -0,0 +1,50 @@
+package com.univ.memoir.core.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 별칭 트라이 조회 테스트
+ * - 키 전체가 일치할 때만 표기를 반환하는지 (접두사, 더 긴 키는 불일치) 확인
+ */
+class AliasTrieTest {
+
+    private AliasTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = AliasTrie.build(Map.of(
+                "spring", "Spring",
+                "스프링", "Spring",
+                "springboot", "Spring Boot"));
+    }
+
+    @Test
+    @DisplayName("접두사를 공유하는 짧은 키와 긴 키를 각각 조회")
+    void resolvesOverlappingKeys() {
+        assertThat(trie.get("spring")).isEqualTo("Spring");
+        assertThat(trie.get("스프링")).isEqualTo("Spring");
+        assertThat(trie.get("springboot")).isEqualTo("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("접두사만 일치하거나 더 긴 키는 null")
+    void rejectsPartialMatches() {
+        assertThat(trie.get("springb")).isNull();
+        assertThat(trie.get("springboots")).isNull();
+        assertThat(trie.get("")).isNull();
+        assertThat(trie.get(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("공통 접두사는 노드를 공유")
+    void sharesPrefixNodes() {
+        // 루트 1 + spring 6 + boot 4 + 스프링 3
+        assertThat(trie.nodeCount()).isEqualTo(14);
+    }
+}
@@ -0,0 +1,71 @@
+package com.univ.memoir.core.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Count-Min 스케치 테스트
+ * - 충돌이 많은 좁은 스케치에서도 추정값이 실제 빈도보다 작지 않은지 확인
+ */
+class CountMinSketchTest {
+
+    private static final int DEPTH = 4;
+
+    @Test
+    @DisplayName("충돌이 잦아도 추정값은 항상 실제 빈도 이상")
+    void neverUnderCounts() {
+        // 키 2000개를 너비 64에 넣어 충돌을 강제
+        CountMinSketch sketch = new CountMinSketch(DEPTH, 64);
+        Map<String, Integer> actual = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            String key = "keyword-" + random.nextInt(2_000);
+            int count = 1 + random.nextInt(3);
+            sketch.add(CountMinSketch.hash(key), count);
+            actual.merge(key, count, Integer::sum);
+        }
+
+        actual.forEach((key, count) ->
+                assertThat(sketch.estimate(CountMinSketch.hash(key))).isGreaterThanOrEqualTo(count));
+    }
+
+    @Test
+    @DisplayName("충돌이 없을 만큼 넓으면 정확한 빈도, 0 이하 가중치는 무시")
+    void exactWhenSparse() {
+        CountMinSketch sketch = new CountMinSketch(DEPTH, 1 << 16);
+        long react = CountMinSketch.hash("react");
+        long java = CountMinSketch.hash("java");
+
+        sketch.add(react, 3);
+        sketch.add(react, 2);
+        sketch.add(java, 1);
+        sketch.add(java, 0);
+        sketch.add(java, -5);
+
+        assertThat(sketch.estimate(react)).isEqualTo(5);
+        assertThat(sketch.estimate(java)).isEqualTo(1);
+        assertThat(sketch.estimate(CountMinSketch.hash("docker"))).isZero();
+    }
+
+    @Test
+    @DisplayName("직렬화 후 불러오면 같은 추정값, 크기가 다르면 IllegalArgumentException")
+    void roundTripsBytes() {
+        CountMinSketch sketch = new CountMinSketch(DEPTH, 128);
+        long spring = CountMinSketch.hash("spring");
+        sketch.add(spring, 42);
+
+        CountMinSketch restored = new CountMinSketch(DEPTH, 128);
+        restored.load(sketch.toBytes());
+
+        assertThat(restored.estimate(spring)).isEqualTo(42);
+        assertThatThrownBy(() -> new CountMinSketch(DEPTH, 64).load(sketch.toBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
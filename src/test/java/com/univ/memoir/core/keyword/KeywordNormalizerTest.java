@@ -0,0 +1,72 @@
+package com.univ.memoir.core.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+
+/**
+ * 키워드 정규화 테스트
+ * - 비교 키 규칙과 번들 별칭 사전(keyword/terms.txt)을 통한 표기 통일을 확인
+ */
+class KeywordNormalizerTest {
+
+    private KeywordNormalizer normalizer;
+
+    @BeforeEach
+    void setUp() {
+        normalizer = new KeywordNormalizer(new KeywordDictionary());
+    }
+
+    @Test
+    @DisplayName("비교 키는 NFKC, 소문자, 공백/구두점 제거 (+, # 는 유지)")
+    void keyFoldsCaseWidthAndPunctuation() {
+        assertThat(KeywordNormalizer.key("React.js")).isEqualTo("reactjs");
+        assertThat(KeywordNormalizer.key("Ｒｅａｃｔ")).isEqualTo("react");
+        assertThat(KeywordNormalizer.key(" C++ ")).isEqualTo("c++");
+        assertThat(KeywordNormalizer.key("C#")).isEqualTo("c#");
+        assertThat(KeywordNormalizer.key("!!!")).isEmpty();
+        assertThat(KeywordNormalizer.key(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("짧은 별칭이 접두사여도 전체가 일치하는 긴 별칭의 표기를 사용")
+    void canonicalPrefersWholeAlias() {
+        assertThat(normalizer.canonical("스프링")).isEqualTo("Spring");
+        assertThat(normalizer.canonical("스프링부트")).isEqualTo("Spring Boot");
+        assertThat(normalizer.canonical("spring boot")).isEqualTo("Spring Boot");
+        assertThat(normalizer.canonical("리액트")).isEqualTo("React");
+        assertThat(normalizer.canonical("react.js")).isEqualTo("React");
+    }
+
+    @Test
+    @DisplayName("사전에 없는 키워드는 공백만 정리, 의미 있는 글자가 없으면 null")
+    void canonicalFallsBackToOriginal() {
+        assertThat(normalizer.canonical("  상태   관리 ")).isEqualTo("상태 관리");
+        assertThat(normalizer.canonical("...")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키의 키워드는 합치고 빈도 내림차순 정렬")
+    void normalizeMergesAliases() {
+        KeywordResponseDto response = new KeywordResponseDto(List.of(
+                new KeywordFrequencyDto("React", 3),
+                new KeywordFrequencyDto("리액트", 2),
+                new KeywordFrequencyDto("react.js", 1),
+                new KeywordFrequencyDto("뷰js", 7),
+                new KeywordFrequencyDto("---", 5)));
+
+        KeywordResponseDto normalized = normalizer.normalize(response);
+
+        assertThat(normalized.getKeywordFrequencies())
+                .extracting(KeywordFrequencyDto::getKeyword, KeywordFrequencyDto::getFrequency)
+                .containsExactly(tuple("Vue.js", 7), tuple("React", 6));
+    }
+}
@@ -0,0 +1,79 @@
+package com.univ.memoir.core.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MinHash 서명 테스트
+ * - 서명 일치 비율이 자카드 유사도를 근사하고, 거의 같은 집합은 LSH 버킷을 공유하는지 확인
+ */
+class MinHashSignatureTest {
+
+    @Test
+    @DisplayName("서명 일치 비율이 자카드 유사도에 가까움")
+    void estimatesJaccard() {
+        // 공통 60개 + 각자 20개 → 자카드 60 / 100 = 0.6
+        List<String> monday = new ArrayList<>();
+        List<String> tuesday = new ArrayList<>();
+        IntStream.range(0, 60).forEach(i -> {
+            monday.add("common" + i);
+            tuesday.add("common" + i);
+        });
+        IntStream.range(0, 20).forEach(i -> {
+            monday.add("monday" + i);
+            tuesday.add("tuesday" + i);
+        });
+
+        double similarity = MinHashSignature.similarity(MinHashSignature.of(monday), MinHashSignature.of(tuesday));
+
+        // 서명 64개의 표준오차는 약 0.06
+        assertThat(similarity).isCloseTo(0.6, within(0.2));
+    }
+
+    @Test
+    @DisplayName("같은 집합은 순서와 무관하게 같은 서명, 겹치지 않는 집합은 유사도가 낮음")
+    void identicalAndDisjointSets() {
+        int[] signature = MinHashSignature.of(List.of("react", "spring", "docker"));
+        int[] disjoint = MinHashSignature.of(List.of("netflix", "instagram", "쿠팡", "notion"));
+
+        assertThat(MinHashSignature.of(Set.of("docker", "react", "spring"))).isEqualTo(signature);
+        assertThat(MinHashSignature.similarity(signature, signature)).isEqualTo(1.0);
+        assertThat(MinHashSignature.similarity(signature, disjoint)).isLessThan(0.2);
+        assertThat(MinHashSignature.of(List.of())).isNull();
+    }
+
+    @Test
+    @DisplayName("거의 같은 집합은 LSH 밴드 버킷을 하나 이상 공유")
+    void similarSetsShareBucket() {
+        List<String> monday = new ArrayList<>();
+        IntStream.range(0, 40).forEach(i -> monday.add("common" + i));
+        List<String> tuesday = new ArrayList<>(monday);
+        monday.add("monday");
+        tuesday.add("tuesday");
+
+        long[] mondayBuckets = MinHashSignature.bandBuckets(MinHashSignature.of(monday));
+        long[] tuesdayBuckets = MinHashSignature.bandBuckets(MinHashSignature.of(tuesday));
+
+        assertThat(IntStream.range(0, MinHashSignature.BANDS)
+                .filter(band -> mondayBuckets[band] == tuesdayBuckets[band])
+                .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("바이트 변환 왕복, 길이가 다르면 null")
+    void roundTripsBytes() {
+        int[] signature = MinHashSignature.of(List.of("java", "kotlin"));
+
+        assertThat(MinHashSignature.fromBytes(MinHashSignature.toBytes(signature))).isEqualTo(signature);
+        assertThat(MinHashSignature.fromBytes(new byte[MinHashSignature.BYTES - 1])).isNull();
+        assertThat(MinHashSignature.fromBytes(null)).isNull();
+    }
+}
@@ -0,0 +1,93 @@
+package com.univ.memoir.core.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+
+/**
+ * Space-Saving 스케치 테스트
+ * - 용량 이내면 정확한 빈도, 넘치면 과대 추정이 전체 가중치 / 용량 이하인지 확인
+ */
+class SpaceSavingSketchTest {
+
+    private static final int CAPACITY = 50;
+    private static final int STREAM_LENGTH = 20_000;
+    private static final int DISTINCT_KEYS = 1_000;
+
+    @Test
+    @DisplayName("용량 이내면 정확한 빈도, 빈도 내림차순 후 표기순")
+    void exactWithinCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        sketch.offer("a", "A", 3);
+        sketch.offer("b", "B", 4);
+        sketch.offer("a", "A", 1);
+        sketch.offer("c", "C", 2);
+        sketch.offer("c", "C", 0);
+
+        assertThat(sketch.top(CAPACITY))
+                .extracting(KeywordFrequencyDto::getKeyword, KeywordFrequencyDto::getFrequency)
+                .containsExactly(tuple("A", 4), tuple("B", 4), tuple("C", 2));
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 스트림에서도 과대 추정은 전체 가중치 / 용량 이하, 그보다 빈번한 키워드는 모두 유지")
+    void overestimateIsBounded() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        Map<String, Integer> actual = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            // 앞쪽 키가 훨씬 자주 나오는 치우친 분포
+            String key = "k" + (int) (Math.pow(random.nextDouble(), 3) * DISTINCT_KEYS);
+            sketch.offer(key, key, 1);
+            actual.merge(key, 1, Integer::sum);
+        }
+
+        int maxError = STREAM_LENGTH / CAPACITY;
+        Map<String, Integer> estimated = new HashMap<>();
+        sketch.top(CAPACITY).forEach(frequency -> estimated.put(frequency.getKeyword(), frequency.getFrequency()));
+
+        assertThat(sketch.size()).isEqualTo(CAPACITY);
+        estimated.forEach((key, estimate) ->
+                assertThat(estimate).isBetween(actual.get(key), actual.get(key) + maxError));
+        actual.forEach((key, count) -> {
+            if (count > maxError) {
+                assertThat(estimated).containsKey(key);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("일별 스케치를 병합하면 같은 키워드의 빈도를 합산")
+    void mergeFromSumsCounts() {
+        SpaceSavingSketch monday = new SpaceSavingSketch(CAPACITY);
+        monday.offer("react", "React", 3);
+        monday.offer("java", "Java", 1);
+        SpaceSavingSketch tuesday = new SpaceSavingSketch(CAPACITY);
+        tuesday.offer("react", "React", 2);
+        tuesday.offer("docker", "Docker", 4);
+
+        SpaceSavingSketch week = new SpaceSavingSketch(CAPACITY);
+        week.mergeFrom(monday);
+        week.mergeFrom(tuesday);
+
+        assertThat(week.top(CAPACITY))
+                .extracting(KeywordFrequencyDto::getKeyword, KeywordFrequencyDto::getFrequency)
+                .containsExactly(tuple("React", 5), tuple("Docker", 4), tuple("Java", 1));
+        assertThat(monday.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("용량이 0 이하면 IllegalArgumentException")
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new SpaceSavingSketch(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
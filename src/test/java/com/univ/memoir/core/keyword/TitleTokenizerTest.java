@@ -0,0 +1,58 @@
+package com.univ.memoir.core.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.univ.memoir.core.keyword.TitleTokenizer.Token;
+
+/**
+ * 페이지 제목 토크나이저 테스트
+ * - 번들 사전(keyword/*.txt) 기준으로 제목 장식 제거, 조사 분리, 사전 용어 표기를 확인
+ */
+class TitleTokenizerTest {
+
+    private TitleTokenizer tokenizer;
+
+    @BeforeEach
+    void setUp() {
+        tokenizer = new TitleTokenizer(new KeywordDictionary());
+    }
+
+    @Test
+    @DisplayName("알림 수와 끝의 사이트명을 떼고 두 단어 사전 용어는 하나로 합침")
+    void stripsDecorationsAndMergesPairs() {
+        List<Token> tokens = tokenizer.tokenize("(3) Spring Boot 공식 문서 - YouTube");
+
+        assertThat(tokens).containsExactly(
+                new Token("springboot", "Spring Boot", true),
+                new Token("문서", "문서", false));
+    }
+
+    @Test
+    @DisplayName("한글 어절 끝의 조사를 떼고 사전 별칭은 사전 표기로 변환")
+    void stripsJosaAndResolvesAliases() {
+        List<Token> tokens = tokenizer.tokenize("리액트에서 상태관리");
+
+        assertThat(tokens).extracting(Token::display).containsExactly("React", "상태관리");
+    }
+
+    @Test
+    @DisplayName("C++, Node.js 표기는 유지하고 숫자, 한 글자, 불용어는 제외")
+    void keepsSymbolsAndDropsNoise() {
+        List<Token> tokens = tokenizer.tokenize("C++ vs Node.js 123 a");
+
+        assertThat(tokens).extracting(Token::display).containsExactly("C++", "Node.js");
+    }
+
+    @Test
+    @DisplayName("빈 제목은 빈 목록")
+    void blankTitleYieldsNoTokens() {
+        assertThat(tokenizer.tokenize(null)).isEmpty();
+        assertThat(tokenizer.tokenize("   ")).isEmpty();
+    }
+}
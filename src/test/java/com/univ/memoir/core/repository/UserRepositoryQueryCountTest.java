@@ -0,0 +1,97 @@
+package com.univ.memoir.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumSet;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.univ.memoir.core.domain.Bookmark;
+import com.univ.memoir.core.domain.InterestType;
+import com.univ.memoir.core.domain.User;
+
+/**
+ * 사용자 조회 쿼리 수 회귀 테스트
+ * - 프로필/관심사 조회가 즐겨찾기 개수와 무관하게 일정한 쿼리 수를 유지하는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.profiles.active=test",
+        "logging.file.name=build/test.log",
+        "spring.datasource.url=jdbc:h2:mem:memoir;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryQueryCountTest {
+
+    private static final String EMAIL = "memo@example.com";
+    private static final int BOOKMARK_COUNT = 300;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .googleId("google-1")
+                .email(EMAIL)
+                .name("memo")
+                .build();
+        user.updateInterests(EnumSet.allOf(InterestType.class));
+        em.persist(user);
+
+        for (int i = 0; i < BOOKMARK_COUNT; i++) {
+            em.persist(new Bookmark(user.getId(), "https://example.com/" + i));
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("프로필 조회는 즐겨찾기 개수와 무관하게 단일 쿼리")
+    void findByEmailIssuesSingleQuery() {
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+
+        assertThat(user.getEmail()).isEqualTo(EMAIL);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관심사 entity graph 조회는 즐겨찾기를 조인하지 않음")
+    void findWithInterestsIssuesSingleQuery() {
+        User user = userRepository.findWithInterestsByEmail(EMAIL).orElseThrow();
+
+        assertThat(user.getInterests()).hasSize(InterestType.values().length);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관심사 지연 로딩은 별도 쿼리 하나로 처리")
+    void lazyInterestsLoadWithOneExtraQuery() {
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+
+        assertThat(user.getInterests()).hasSize(InterestType.values().length);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,104 @@
+package com.univ.memoir.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.custom.UploadLimitExceededException;
+
+/**
+ * 방문 기록 스트리밍 파서 상한 테스트
+ * - 바이트 상한은 버퍼 경계가 어디에 걸리든(토큰 이동 중 / 역직렬화 중) 항상 413 예외
+ */
+class VisitUploadReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("정상 본문은 중복/잘못된 항목을 걸러서 전달")
+    void readsAndDeduplicates() throws Exception {
+        String body = "{\"visitedPages\": ["
+                + page("https://a.com", 1000, "a") + ","
+                + page("https://a.com", 1000, "a") + ","
+                + page("https://b.com", 2000, "b") + ","
+                + "{\"url\": \"\", \"startTimestamp\": 3000}" + ","
+                + "1"
+                + "]}";
+        List<VisitedPageForTimeDto> received = new ArrayList<>();
+
+        VisitUploadReader.UploadSummary summary = reader(100, 1_000_000).read(stream(body), 1, received::addAll);
+
+        assertThat(summary).isEqualTo(new VisitUploadReader.UploadSummary(5, 2, 1, 2));
+        assertThat(received).extracting(VisitedPageForTimeDto::getUrl).containsExactly("https://a.com", "https://b.com");
+    }
+
+    @Test
+    @DisplayName("항목 수 상한 초과 시 UPLOAD_TOO_MANY_ENTRIES")
+    void rejectsTooManyEntries() {
+        String body = "[" + page("https://a.com", 1, "a") + "," + page("https://b.com", 2, "b") + ","
+                + page("https://c.com", 3, "c") + "]";
+
+        assertThatThrownBy(() -> reader(2, 1_000_000).read(stream(body), 10, chunk -> { }))
+                .isInstanceOf(UploadLimitExceededException.class)
+                .extracting(e -> ((UploadLimitExceededException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UPLOAD_TOO_MANY_ENTRIES);
+    }
+
+    @Test
+    @DisplayName("토큰 이동 중 바이트 상한 초과 시 UPLOAD_TOO_LARGE")
+    void rejectsTooLargeBetweenEntries() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 2_000; i++) {
+            body.append(i == 0 ? "" : ",").append(page("https://a.com/" + i, i + 1, "t"));
+        }
+        body.append("]");
+
+        assertThatThrownBy(() -> reader(100_000, 20_000).read(stream(body.toString()), 10, chunk -> { }))
+                .isInstanceOf(UploadLimitExceededException.class)
+                .extracting(e -> ((UploadLimitExceededException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UPLOAD_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("역직렬화 중(긴 제목 읽는 도중) 바이트 상한 초과도 400이 아닌 UPLOAD_TOO_LARGE")
+    void rejectsTooLargeInsideEntry() {
+        // 첫 버퍼(8000바이트)는 상한 안, 제목을 읽으며 버퍼를 다시 채울 때 상한 초과
+        String body = "[" + page("https://a.com", 1, "x".repeat(30_000)) + "]";
+
+        assertThatThrownBy(() -> reader(100, 12_000).read(stream(body), 10, chunk -> { }))
+                .isInstanceOf(UploadLimitExceededException.class)
+                .extracting(e -> ((UploadLimitExceededException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UPLOAD_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("구조가 잘못된 본문은 IllegalArgumentException")
+    void rejectsMalformedJson() {
+        assertThatThrownBy(() -> reader(100, 1_000_000).read(stream("[{\"url\": }]"), 10, chunk -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private VisitUploadReader reader(int maxEntries, long maxBytes) {
+        return new VisitUploadReader(objectMapper, maxEntries, maxBytes);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String page(String url, long startTimestamp, String title) {
+        return "{\"url\": \"" + url + "\", \"title\": \"" + title + "\", \"visitCount\": 1, "
+                + "\"startTimestamp\": " + startTimestamp + ", \"durationSeconds\": 60}";
+    }
+}